@@ -1,6 +1,8 @@
 package com.example.weup.HandlerMethodArgumentResolver.resolver;
 
 import com.example.weup.HandlerMethodArgumentResolver.annotation.LoginUser;
+import com.example.weup.security.JwtFilter;
+import com.example.weup.security.JwtPrincipal;
 import com.example.weup.security.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,12 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
                                   WebDataBinderFactory binderFactory) {
 
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+
+        // JwtFilter 에서 검증한 principal 재사용
+        if (request.getAttribute(JwtFilter.PRINCIPAL_ATTRIBUTE) instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+
         String token = jwtUtil.resolveToken(request);
         return jwtUtil.getUserId(token);
     }
@@ -1,6 +1,7 @@
 package com.example.weup.HandlerMethodArgumentResolver.resolver;
 
 import com.example.weup.HandlerMethodArgumentResolver.annotation.LoginUser;
+import com.example.weup.handler.StompChannelInterceptor;
 import com.example.weup.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -25,6 +26,13 @@ public class StompLoginUserArgumentResolver
     public Object resolveArgument(MethodParameter parameter,
                                   Message<?> message) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+
+        // CONNECT 에서 세션에 저장한 user id 사용
+        if (accessor.getSessionAttributes() != null
+                && accessor.getSessionAttributes().get(StompChannelInterceptor.SESSION_USER_ID) instanceof Long userId) {
+            return userId;
+        }
+
         String token = accessor.getFirstNativeHeader("Authorization");
 
         return jwtUtil.getUserId(token);
@@ -0,0 +1,31 @@
+package com.example.weup.config;
+
+import com.example.weup.handler.StompClusterRelay;
+import com.example.weup.service.LastMessageCacheService;
+import com.example.weup.service.SubscriptionAclService;
+import com.example.weup.validate.MembershipCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       LastMessageCacheService lastMessageCacheService,
+                                                                       SubscriptionAclService subscriptionAclService,
+                                                                       MembershipCache membershipCache,
+                                                                       ObjectProvider<StompClusterRelay> stompClusterRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(lastMessageCacheService, new ChannelTopic(LastMessageCacheService.INVALIDATE_CHANNEL));
+        container.addMessageListener(subscriptionAclService, new ChannelTopic(SubscriptionAclService.INVALIDATE_CHANNEL));
+        container.addMessageListener(membershipCache, new ChannelTopic(MembershipCache.INVALIDATE_CHANNEL));
+        stompClusterRelay.ifAvailable(relay -> container.addMessageListener(relay, new ChannelTopic(StompClusterRelay.RELAY_CHANNEL)));
+        return container;
+    }
+}
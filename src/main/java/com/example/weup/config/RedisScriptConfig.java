@@ -0,0 +1,43 @@
+package com.example.weup.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+@Configuration
+public class RedisScriptConfig {
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> saveChatMessageScript() {
+        return RedisScript.of(new ClassPathResource("redis/save-chat-message.lua"), List.class);
+    }
+
+    @Bean
+    public RedisScript<Long> completeChatFlushScript() {
+        return RedisScript.of(new ClassPathResource("redis/complete-chat-flush.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> presenceJoinScript() {
+        return RedisScript.of(new ClassPathResource("redis/presence-join.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> presenceLeaveScript() {
+        return RedisScript.of(new ClassPathResource("redis/presence-leave.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> claimUploadSessionScript() {
+        return RedisScript.of(new ClassPathResource("redis/claim-upload-session.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> releaseLockScript() {
+        return RedisScript.of(new ClassPathResource("redis/release-lock.lua"), Long.class);
+    }
+}
@@ -2,15 +2,21 @@ package com.example.weup.config;
 
 import com.example.weup.HandlerMethodArgumentResolver.resolver.StompLoginUserArgumentResolver;
 import com.example.weup.handler.StompChannelInterceptor;
+import com.example.weup.handler.StompChannelMetrics;
+import com.example.weup.handler.StompClusterRelay;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.util.List;
 
@@ -21,11 +27,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompChannelInterceptor stompChannelInterceptor;
     private final StompLoginUserArgumentResolver stompLoginUserArgumentResolver;
+    private final ObjectProvider<StompClusterRelay> stompClusterRelay;
+    private final StompChannelMetrics stompChannelMetrics;
+    private final WebSocketProperties webSocketProperties;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
+
+        // websocket.cluster.enabled=true 인 경우 broker 로 가는 메시지를 redis 로 다른 노드에도 전달
+        stompClusterRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
+        registry.configureBrokerChannel()
+                .executor(stompBrokerExecutor())
+                .interceptors(stompChannelMetrics.interceptor("broker"));
     }
 
     @Override
@@ -37,13 +52,57 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 );
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+        registration.setMessageSizeLimit(transport.getMessageSizeLimit())
+                .setSendBufferSizeLimit(transport.getSendBufferSizeLimit())
+                .setSendTimeLimit(transport.getSendTimeLimitMillis());
+    }
+
     @Override
     public void configureClientInboundChannel(@NotNull ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.executor(stompInboundExecutor())
+                .interceptors(stompChannelMetrics.interceptor("inbound"), stompChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NotNull ChannelRegistration registration) {
+        registration.executor(stompOutboundExecutor())
+                .interceptors(stompChannelMetrics.interceptor("outbound"));
+    }
+
+    // inbound 는 JPA / redis 조회가 있어 blocking 이 잦으므로 virtual thread 사용 가능
+    @Bean
+    public ThreadPoolTaskExecutor stompInboundExecutor() {
+        return channelExecutor("inbound", webSocketProperties.getInbound());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor stompOutboundExecutor() {
+        return channelExecutor("outbound", webSocketProperties.getOutbound());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor stompBrokerExecutor() {
+        return channelExecutor("broker", webSocketProperties.getBroker());
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(stompLoginUserArgumentResolver);
     }
+
+    private ThreadPoolTaskExecutor channelExecutor(String channelName, WebSocketProperties.ChannelPool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setVirtualThreads(pool.isVirtualThreads());
+        executor.setThreadNamePrefix("stomp-" + channelName + "-");
+        stompChannelMetrics.registerExecutor(channelName, executor);
+        return executor;
+    }
 }
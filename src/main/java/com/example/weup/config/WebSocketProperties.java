@@ -0,0 +1,38 @@
+package com.example.weup.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private ChannelPool inbound = new ChannelPool();
+    private ChannelPool outbound = new ChannelPool();
+    private ChannelPool broker = new ChannelPool();
+    private Transport transport = new Transport();
+
+    // channel executor 설정, virtualThreads=true 면 pool thread 를 virtual thread 로 생성
+    @Getter
+    @Setter
+    public static class ChannelPool {
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int queueCapacity = 10_000;
+        private int keepAliveSeconds = 60;
+        private boolean virtualThreads = false;
+    }
+
+    // WebSocket transport 제한
+    @Getter
+    @Setter
+    public static class Transport {
+        private int messageSizeLimit = 64 * 1024;
+        private int sendBufferSizeLimit = 512 * 1024;
+        private int sendTimeLimitMillis = 10_000;
+    }
+}
@@ -75,7 +75,19 @@ public enum ErrorInfo {
 
     MEMBER_ALREADY_EXISTS_IN_CHAT_ROOM(HttpStatus.CONFLICT, "이미 채팅방에 존재하는 멤버입니다."),
 
-    BOARD_CONTENT_OR_FILE_REQUIRED(HttpStatus.BAD_REQUEST, "게시글 내용이나 파일 중 하나 이상을 입력해주세요.");
+    BOARD_CONTENT_OR_FILE_REQUIRED(HttpStatus.BAD_REQUEST, "게시글 내용이나 파일 중 하나 이상을 입력해주세요."),
+
+    INVALID_IMAGE_TYPE(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다."),
+
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다."),
+
+    FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "업로드할 수 있는 파일 크기를 초과했습니다."),
+
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드 세션이 없거나 만료되었습니다."),
+
+    UPLOAD_NOT_COMPLETED(HttpStatus.BAD_REQUEST, "업로드된 파일이 없거나 요청한 크기 / 형식과 다릅니다."),
+
+    UPLOAD_SESSION_IN_USE(HttpStatus.CONFLICT, "이미 처리 중인 업로드 세션입니다.");
 
     private final HttpStatus httpStatus;
 
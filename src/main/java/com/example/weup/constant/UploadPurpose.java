@@ -0,0 +1,6 @@
+package com.example.weup.constant;
+
+public enum UploadPurpose {
+    BOARD_FILE,
+    CHAT_IMAGE
+}
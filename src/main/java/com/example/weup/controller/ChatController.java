@@ -46,7 +46,7 @@ public class ChatController {
                                  @ModelAttribute SendImageMessageRequestDTO sendImageMessageRequestDTO) throws IOException {
 
         log.info("요청자 : {}, send image chatting -> start", userId);
-        chatService.sendImageMessage(chatRoomId, sendImageMessageRequestDTO);
+        chatService.sendImageMessage(userId, chatRoomId, sendImageMessageRequestDTO);
 
         log.info("요청자 : {}, send image chatting -> success", userId);
     }
@@ -58,10 +58,23 @@ public class ChatController {
                                                                   @RequestBody GetPageable pageable) throws JsonProcessingException {
 
         log.info("요청자 : {}, get chatting messages -> start", userId);
-        Slice<ReceiveMessageResponseDTO> data = chatService.getChatMessages(chatRoomId, pageable);
+        Slice<ReceiveMessageResponseDTO> data = chatService.getChatMessages(userId, chatRoomId, pageable);
 
         log.info("요청자 : {}, get chatting messages -> success", userId);
         return ResponseEntity.ok(DataResponseDTO.of(data, "채팅 내역 조회가 완료되었습니다."));
     }
 
+    @ResponseBody
+    @PostMapping("/chat/messages/cursor/{chatRoomId}")
+    public ResponseEntity<DataResponseDTO<ChatCursorResponseDTO>> getChatMessagesByCursor(@LoginUser Long userId,
+                                                                                         @PathVariable Long chatRoomId,
+                                                                                         @RequestBody GetChatCursorRequestDTO request) throws JsonProcessingException {
+
+        log.info("요청자 : {}, get chatting messages by cursor -> start", userId);
+        ChatCursorResponseDTO data = chatService.getChatMessagesByCursor(userId, chatRoomId, request);
+
+        log.info("요청자 : {}, get chatting messages by cursor -> success", userId);
+        return ResponseEntity.ok(DataResponseDTO.of(data, "채팅 내역 조회가 완료되었습니다."));
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.example.weup.controller;
+
+import com.example.weup.service.ImageService;
+import com.example.weup.service.ImageStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/images")
+public class ImageController {
+
+    private final ImageService imageService;
+
+    // 파일 이름이 내용의 hash 이므로 파일 이름을 strong ETag 로 사용하고 영구 cache 허용
+    @GetMapping("/{fileName}")
+    public ResponseEntity<InputStreamResource> getImage(@PathVariable String fileName,
+                                                        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+        String eTag = "\"" + fileName + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ImageStorage.StoredImage image = imageService.loadImage(fileName);
+
+        // 허용된 이미지 형식의 content type 만 내려가고, 브라우저가 내용을 보고 다른 형식으로 해석하지 않도록 함
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .header("X-Content-Type-Options", "nosniff")
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .contentLength(image.getContentLength())
+                .body(new InputStreamResource(image.getContent()));
+    }
+}
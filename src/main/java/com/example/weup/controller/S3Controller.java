@@ -1,9 +1,14 @@
 package com.example.weup.controller;
 
+import com.example.weup.HandlerMethodArgumentResolver.annotation.LoginUser;
+import com.example.weup.dto.request.CreateUploadSessionRequestDTO;
 import com.example.weup.dto.request.FileDownloadRequestDTO;
 import com.example.weup.dto.response.DataResponseDTO;
 import com.example.weup.dto.response.FileFullResponseDTO;
+import com.example.weup.dto.response.UploadSessionResponseDTO;
 import com.example.weup.service.S3Service;
+import com.example.weup.service.UploadSessionService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +23,8 @@ public class S3Controller {
 
     private final S3Service s3Service;
 
+    private final UploadSessionService uploadSessionService;
+
     @PostMapping("/upload")
     public ResponseEntity<DataResponseDTO<List<FileFullResponseDTO>>> uploadFiles(@RequestParam List<MultipartFile> files) {
 
@@ -26,6 +33,26 @@ public class S3Controller {
         return ResponseEntity.ok(DataResponseDTO.of(uploadedFiles, "파일이 성공적으로 업로드되었습니다."));
     }
 
+    // 직접 업로드용 presigned PUT url 발급
+    @PostMapping("/upload-session")
+    public ResponseEntity<DataResponseDTO<UploadSessionResponseDTO>> createUploadSession(@LoginUser Long userId,
+                                                                                        @Valid @RequestBody CreateUploadSessionRequestDTO createUploadSessionRequestDTO) {
+
+        UploadSessionResponseDTO uploadSession = uploadSessionService.createSession(userId, createUploadSessionRequestDTO);
+
+        return ResponseEntity.ok(DataResponseDTO.of(uploadSession, "업로드 URL이 성공적으로 발급되었습니다."));
+    }
+
+    // 직접 업로드 결과 확인만 함, 세션은 게시글 / 채팅 요청에 uploadSessionId 를 넘길 때 사용됨
+    @GetMapping("/upload-session/{uploadSessionId}")
+    public ResponseEntity<DataResponseDTO<FileFullResponseDTO>> verifyUploadSession(@LoginUser Long userId,
+                                                                                   @PathVariable String uploadSessionId) {
+
+        FileFullResponseDTO uploadedFile = uploadSessionService.verify(userId, uploadSessionId);
+
+        return ResponseEntity.ok(DataResponseDTO.of(uploadedFile, "파일이 정상적으로 업로드되었습니다."));
+    }
+
     @PostMapping("/download")
     public ResponseEntity<DataResponseDTO<String>> getPresignedUrl(@RequestBody FileDownloadRequestDTO fileDownloadRequestDTO) {
 
@@ -18,11 +18,13 @@ public class BoardCreateRequestDTO {
     @NotBlank(message = "태그를 설정해주세요.")
     private String tag;
     private List<MultipartFile> file;
+    // 업로드 세션으로 직접 업로드한 파일
+    private List<String> uploadSessionIds;
 
     @AssertTrue(message = "파일이나 내용을 입력해주세요.")
     public boolean isContentsOrFilePresent() {
         boolean hasContents = (contents != null && !contents.trim().isEmpty());
-        boolean hasFile = (file != null && !file.isEmpty());
+        boolean hasFile = (file != null && !file.isEmpty()) || (uploadSessionIds != null && !uploadSessionIds.isEmpty());
         return hasContents || hasFile;
     }
 }
@@ -0,0 +1,26 @@
+package com.example.weup.dto.request;
+
+import com.example.weup.constant.UploadPurpose;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadSessionRequestDTO {
+    @NotBlank(message = "파일 이름을 입력해주세요.")
+    private String fileName;
+    @NotBlank(message = "파일 형식을 입력해주세요.")
+    private String contentType;
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "파일 크기가 올바르지 않습니다.")
+    private Long fileSize;
+    @NotNull(message = "업로드 용도를 입력해주세요.")
+    private UploadPurpose purpose;
+}
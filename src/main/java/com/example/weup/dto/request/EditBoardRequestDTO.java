@@ -17,5 +17,7 @@ public class EditBoardRequestDTO {
     @NotBlank(message = "태그는 필수로 입력되어야 합니다.")
     private String tag;
     private List<MultipartFile> file;
+    // 업로드 세션으로 직접 업로드한 파일
+    private List<String> uploadSessionIds;
     private List<Long> removeFileIds;
 }
@@ -0,0 +1,12 @@
+package com.example.weup.dto.request;
+
+import lombok.Getter;
+
+@Getter
+public class GetChatCursorRequestDTO {
+
+    // 첫 페이지는 null
+    private String cursor;
+
+    private int size;
+}
@@ -15,4 +15,7 @@ public class SendImageMessageRequestDTO {
     private Long senderId;
 
     private MultipartFile file;
+
+    // 업로드 세션으로 직접 업로드한 경우 file 대신 사용
+    private String uploadSessionId;
 }
@@ -0,0 +1,21 @@
+package com.example.weup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class ChatCursorResponseDTO {
+
+    private List<ReceiveMessageResponseDTO> messageList;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+}
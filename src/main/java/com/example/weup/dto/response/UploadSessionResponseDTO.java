@@ -0,0 +1,19 @@
+package com.example.weup.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class UploadSessionResponseDTO {
+
+    private String uploadSessionId;
+
+    private String uploadUrl;
+
+    private String storedFileName;
+
+    private Instant expiresAt;
+}
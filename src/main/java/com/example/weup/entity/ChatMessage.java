@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "ux_chat_message_uuid", columnList = "uuid", unique = true),
+        @Index(name = "ix_chat_message_room_sent_at", columnList = "chat_room_id, sent_at")
+})
 public class ChatMessage {
 
     @Id
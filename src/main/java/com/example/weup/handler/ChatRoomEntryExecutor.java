@@ -0,0 +1,176 @@
+package com.example.weup.handler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 채팅방 입장 / 퇴장 부수 작업 (presence, 읽음 처리) 을 clientInboundChannel 밖에서 실행
+// - 같은 채팅방 작업은 제출 순서대로 하나씩 실행 (입장 처리 전에 퇴장 처리가 먼저 실행되지 않도록)
+// - 대기 작업이 MAX_PENDING_TASKS 를 넘으면 호출 스레드가 작업 완료까지 기다림 (backpressure)
+// 지표는 Micrometer 로 등록
+// - chat.room.entry.pending (gauge), chat.room.entry.tasks (counter, tag : result = submitted / completed / failed / rejected / saturated)
+// - chat.room.entry.queued / chat.room.entry.run (timer, 대기 시간 / 실행 시간)
+@Slf4j
+@Component
+public class ChatRoomEntryExecutor {
+
+    private static final int MAX_PENDING_TASKS = 1_000;
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = 300_000;
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("chat-room-entry-", 0).factory());
+
+    private final Semaphore pendingPermits = new Semaphore(MAX_PENDING_TASKS);
+
+    // chatRoomId -> 마지막으로 제출된 작업
+    private final Map<Long, CompletableFuture<Void>> roomTails = new ConcurrentHashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder failedCount = new LongAdder();
+
+    private final LongAdder saturatedCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final Timer queuedTimer;
+
+    private final Timer runTimer;
+
+    public ChatRoomEntryExecutor(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.room.entry.pending", this, ChatRoomEntryExecutor::getPendingCount)
+                .description("채팅방 입장 / 퇴장 작업 중 대기 + 실행 중인 작업 수")
+                .register(meterRegistry);
+        registerTaskCounter(meterRegistry, "submitted", submittedCount);
+        registerTaskCounter(meterRegistry, "completed", completedCount);
+        registerTaskCounter(meterRegistry, "failed", failedCount);
+        registerTaskCounter(meterRegistry, "rejected", rejectedCount);
+        registerTaskCounter(meterRegistry, "saturated", saturatedCount);
+        this.queuedTimer = Timer.builder("chat.room.entry.queued")
+                .description("채팅방 입장 / 퇴장 작업 제출부터 실행 시작까지 걸린 시간")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("chat.room.entry.run")
+                .description("채팅방 입장 / 퇴장 작업 실행 시간")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long chatRoomId, EntryTask task) {
+
+        long submittedAt = System.nanoTime();
+        boolean acquired = pendingPermits.tryAcquire();
+        submittedCount.increment();
+
+        // 이전 작업이 예외로 끝나도 (실행 거부 등) 다음 작업이 건너뛰어지지 않도록 결과와 관계없이 이어서 실행
+        CompletableFuture<Void> next = roomTails.compute(chatRoomId, (id, tail) ->
+                (tail != null ? tail.exceptionally(e -> null) : COMPLETED).thenRunAsync(() -> run(id, task, submittedAt, acquired), executor));
+        next.whenComplete((result, e) -> {
+            roomTails.remove(chatRoomId, next);
+            // run 은 예외를 밖으로 던지지 않으므로 예외 완료는 실행 거부 (종료 이후 제출 등), run 대신 permit 반환
+            if (e != null) {
+                rejectedCount.increment();
+                if (acquired) {
+                    pendingPermits.release();
+                }
+                log.warn("chat room entry task -> rejected : chat room id - {}, error - {}", chatRoomId, e.getMessage());
+            }
+        });
+
+        if (!acquired) {
+            saturatedCount.increment();
+            log.warn("chat room entry executor -> saturated, chat room id : {}, pending : {}", chatRoomId, getPendingCount());
+            next.exceptionally(e -> null).join();
+        }
+    }
+
+    public int getPendingCount() {
+        return MAX_PENDING_TASKS - pendingPermits.availablePermits();
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getSaturatedCount() {
+        return saturatedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void logStats() {
+        log.info("chat room entry executor -> pending : {}, submitted : {}, completed : {}, failed : {}, rejected : {}, saturated : {}, avg queued ms : {}, avg run ms : {}",
+                getPendingCount(), getSubmittedCount(), getCompletedCount(), getFailedCount(), getRejectedCount(), getSaturatedCount(),
+                (long) queuedTimer.mean(TimeUnit.MILLISECONDS),
+                (long) runTimer.mean(TimeUnit.MILLISECONDS));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("chat room entry executor -> shutdown timeout, pending : {}", getPendingCount());
+        }
+    }
+
+    // 작업 실패 (Error 포함) 는 같은 채팅방의 다음 작업을 막지 않도록 로그만 남김
+    private void run(Long chatRoomId, EntryTask task, long submittedAt, boolean acquired) {
+
+        long startedAt = System.nanoTime();
+        queuedTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+        try {
+            task.run();
+            completedCount.increment();
+        } catch (Throwable e) {
+            failedCount.increment();
+            log.error("chat room entry task -> fail : chat room id - {}, error - {}", chatRoomId, e.getMessage(), e);
+        } finally {
+            runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (acquired) {
+                pendingPermits.release();
+            }
+        }
+    }
+
+    private void registerTaskCounter(MeterRegistry meterRegistry, String result, LongAdder count) {
+        FunctionCounter.builder("chat.room.entry.tasks", count, LongAdder::sum)
+                .description("채팅방 입장 / 퇴장 작업 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface EntryTask {
+
+        void run() throws Exception;
+    }
+}
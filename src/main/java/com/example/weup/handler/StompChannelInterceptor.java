@@ -6,7 +6,8 @@ import com.example.weup.entity.User;
 import com.example.weup.repository.UserRepository;
 import com.example.weup.security.JwtUtil;
 import com.example.weup.service.SessionService;
-import com.example.weup.validate.MemberValidator;
+import com.example.weup.service.SubscriptionAclService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +35,10 @@ public class StompChannelInterceptor implements ChannelInterceptor {
     private final JwtUtil jwtUtil;
     private final SessionService sessionService;
     private final UserRepository userRepository;
-    private final MemberValidator memberValidator;
+    private final SubscriptionAclService subscriptionAclService;
+    private final ChatRoomEntryExecutor chatRoomEntryExecutor;
+    public static final String SESSION_USER_ID = "userId";
+    public static final String SESSION_TOKEN_EXPIRES_AT = "tokenExpiresAt";
     private static final Pattern PROJECT_TOPIC_PATTERN = Pattern.compile("^/topic/project/(\\d+)(/.*)?$");
 
     @Override
@@ -58,12 +63,9 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 }
 
                 String connectToken = connectHeader.getFirst();
-                if (jwtUtil.isExpired(connectToken)) {
-                    log.warn("CONNECT - JWT 만료");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
+                Claims connectClaims = parseClaims(connectToken, command);
 
-                userId = jwtUtil.getUserId(connectToken);
+                userId = connectClaims.get("userId", Long.class);
                 User connectUser = userRepository.findById(userId)
                         .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
 
@@ -72,6 +74,13 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
                 accessor.setUser(authToken);
 
+                // 이후 frame 은 세션에 저장한 인증 정보로 처리 (토큰 재검증, user 조회 없음)
+                Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+                if (sessionAttributes != null) {
+                    sessionAttributes.put(SESSION_USER_ID, userId);
+                    sessionAttributes.put(SESSION_TOKEN_EXPIRES_AT, connectClaims.getExpiration().getTime());
+                }
+
                 log.info("CONNECT from User - {}, Session - {}", userId, accessor.getSessionId());
                 break;
 
@@ -83,20 +92,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 }
                 log.info("SUBSCRIBE destination = {}", destination);
 
-                List<String> subscribeHeader = accessor.getNativeHeader("Authorization");
-                if (subscribeHeader == null || subscribeHeader.isEmpty()) {
-                    log.warn("SUBSCRIBE - Authorization 헤더 없음");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                String subscribeToken = subscribeHeader.getFirst();
-                if (jwtUtil.isExpired(subscribeToken)) {
-                    log.warn("SUBSCRIBE - JWT 만료");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                userId = jwtUtil.getUserId(subscribeToken);
-                userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+                userId = getSessionUserId(accessor, command);
 
                 // 개인 알림 진입
                 if (destination.startsWith("/user/queue/notification")) {
@@ -113,7 +109,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                     log.info("Stomp 분기 처리 - Subscribe /topic/project : {}", targetEntityId);
 
                     if (targetEntityId != null) {
-                        memberValidator.validateActiveMemberInProject(userId, targetEntityId);
+                        subscriptionAclService.authorizeProject(userId, targetEntityId);
                         log.info("Topic(Project) Subscribe -> Success : User - {}, Destination - {}", userId, destination);
                     }
                     else {
@@ -132,7 +128,8 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                         chatRoomId = Long.parseLong(destination.split("/")[4]);
                         log.debug("split check : {}", Arrays.toString(destination.split("/")));
                         log.info("Topic(Chatroom Connect) Subscribe -> Success : User - {}, Destination - {}, chat room id - {}", userId, destination, chatRoomId);
-                        sessionService.addConnectMemberToChatRoom(chatRoomId, userId);
+                        Long memberId = subscriptionAclService.authorizeChatRoom(userId, chatRoomId);
+                        sessionService.addConnectMemberIdToChatRoom(chatRoomId, memberId, accessor.getSessionId());
                     }
                     else {
                         log.info("Topic(Chatroom) Subscribe -> Failure : User - {}, Destination - {}", userId, destination);
@@ -148,20 +145,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 }
                 log.info("SEND destination = {}", destination);
 
-                List<String> sendHeader = accessor.getNativeHeader("Authorization");
-                if (sendHeader == null || sendHeader.isEmpty()) {
-                    log.warn("SEND - Authorization 헤더 없음");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                String sendToken = sendHeader.getFirst();
-                if (jwtUtil.isExpired(sendToken)) {
-                    log.warn("SEND - JWT 만료");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                userId = jwtUtil.getUserId(sendToken);
-                userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+                userId = getSessionUserId(accessor, command);
 
                 if (destination.startsWith("/app/send") || destination.startsWith("/app/project") ||
                         destination.startsWith("/app/todo") || destination.startsWith("/app/chat") || destination.startsWith("/app/schedule")) {
@@ -173,20 +157,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
                 break;
 
             case UNSUBSCRIBE:
-                List<String> unsubscribeHeader = accessor.getNativeHeader("Authorization");
-                if (unsubscribeHeader == null || unsubscribeHeader.isEmpty()) {
-                    log.warn("UNSUBSCRIBE - Authorization 헤더 없음");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                String unsubscribeToken = unsubscribeHeader.getFirst();
-                if (jwtUtil.isExpired(unsubscribeToken)) {
-                    log.warn("UNSUBSCRIBE - JWT 만료");
-                    throw new GeneralException(ErrorInfo.UNAUTHORIZED);
-                }
-
-                userId = jwtUtil.getUserId(unsubscribeToken);
-                userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+                userId = getSessionUserId(accessor, command);
 
                 destination = accessor.getDestination();
                 if (destination == null) {
@@ -197,13 +168,20 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
                 if (destination.startsWith("/topic/chat/active")) {
                     Long chatRoomId = Long.valueOf(destination.split("/")[4]);
-                    sessionService.removeActiveMemberFromChatRoom(chatRoomId, userId);
-                    sessionService.saveLastReadAt(chatRoomId, userId, Instant.now());
+                    Long unsubscribeUserId = userId;
+                    String sessionId = accessor.getSessionId();
+                    Instant lastReadAt = Instant.now();
+
+                    // 입장 처리와 같은 순서로 실행되도록 같은 executor 에 제출
+                    chatRoomEntryExecutor.submit(chatRoomId, () -> {
+                        sessionService.removeActiveMemberFromChatRoom(chatRoomId, unsubscribeUserId, sessionId);
+                        sessionService.saveLastReadAt(chatRoomId, unsubscribeUserId, lastReadAt);
+                    });
                     log.info("Topic(Chatroom Active) Unsubscribe -> Success : User - {}, Destination - {}", userId, destination);
                 }
                 else if (destination.startsWith("/topic/chat/connect")) {
                     Long chatRoomId = Long.valueOf(destination.split("/")[4]);
-                    sessionService.removeConnectMemberFromChatRoom(chatRoomId, userId);
+                    sessionService.removeConnectMemberFromChatRoom(chatRoomId, userId, accessor.getSessionId());
                     log.info("Topic(Chatroom Connect) Unsubscribe -> Success : User - {}, Destination - {}", userId, destination);
                 }
                 break;
@@ -220,4 +198,45 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
         return message;
     }
+
+    // CONNECT 에서 저장한 세션 인증 정보로 user id 조회
+    // 토큰이 만료된 경우에만 frame 의 Authorization 헤더(새 토큰)를 검증해 세션 만료 시각을 갱신
+    private Long getSessionUserId(StompHeaderAccessor accessor, StompCommand command) {
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null || !(sessionAttributes.get(SESSION_USER_ID) instanceof Long userId)) {
+            log.warn("{} - 인증되지 않은 세션 : Session - {}", command, accessor.getSessionId());
+            throw new GeneralException(ErrorInfo.UNAUTHORIZED);
+        }
+
+        Object expiresAt = sessionAttributes.get(SESSION_TOKEN_EXPIRES_AT);
+        if (expiresAt instanceof Long expiresAtMillis && expiresAtMillis > System.currentTimeMillis()) {
+            return userId;
+        }
+
+        String token = accessor.getFirstNativeHeader("Authorization");
+        if (token == null) {
+            log.warn("{} - 세션 토큰 만료, Authorization 헤더 없음", command);
+            throw new GeneralException(ErrorInfo.UNAUTHORIZED);
+        }
+
+        Claims claims = parseClaims(token, command);
+        if (!userId.equals(claims.get("userId", Long.class))) {
+            log.warn("{} - 세션 사용자와 토큰 사용자가 다름 : Session User - {}", command, userId);
+            throw new GeneralException(ErrorInfo.UNAUTHORIZED);
+        }
+
+        sessionAttributes.put(SESSION_TOKEN_EXPIRES_AT, claims.getExpiration().getTime());
+        log.info("{} - 세션 토큰 갱신 : User - {}, Session - {}", command, userId, accessor.getSessionId());
+        return userId;
+    }
+
+    private Claims parseClaims(String token, StompCommand command) {
+        try {
+            return jwtUtil.parseClaims(token);
+        } catch (Exception e) {
+            log.warn("{} - JWT 만료 또는 검증 실패 : {}", command, e.getMessage());
+            throw new GeneralException(ErrorInfo.UNAUTHORIZED);
+        }
+    }
 }
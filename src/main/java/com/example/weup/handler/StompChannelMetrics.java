@@ -0,0 +1,153 @@
+package com.example.weup.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// STOMP channel 지표, Micrometer 로 등록해서 /actuator/prometheus 로 수집
+// - stomp.channel.queue.size / stomp.channel.active.threads / stomp.channel.pool.size (gauge, tag : channel)
+// - stomp.channel.frames (counter, tag : channel, destination), 처리량은 rate() 로 계산
+//   숫자 path 는 {id}, session 별 user destination (/queue/...-user{sessionId}) 은 -user{sessionId} 로 묶어서 집계
+// STATS_LOG_INTERVAL_MILLIS 마다 같은 값을 로그로도 남김
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompChannelMetrics {
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = 60_000;
+
+    private static final int MAX_DESTINATIONS = 500;
+
+    private static final String OTHER_DESTINATION = "other";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$|-user)");
+
+    // UserDestinationMessageHandler 가 변환한 destination 의 session id 접미사
+    private static final Pattern USER_SESSION_SUFFIX = Pattern.compile("-user[^/]+$");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ThreadPoolTaskExecutor> executors = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> frameCounts = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> lastFrameCounts = new ConcurrentHashMap<>();
+
+    private volatile long lastLoggedAt = System.currentTimeMillis();
+
+    public void registerExecutor(String channelName, ThreadPoolTaskExecutor executor) {
+        executors.put(channelName, executor);
+
+        Gauge.builder("stomp.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("STOMP channel executor 대기 작업 수")
+                .tag("channel", channelName)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP channel executor 작업 중인 thread 수")
+                .tag("channel", channelName)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("STOMP channel executor thread 수")
+                .tag("channel", channelName)
+                .register(meterRegistry);
+    }
+
+    // channel 별로 frame 수를 세는 interceptor
+    public ChannelInterceptor interceptor(String channelName) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
+                record(channelName, message);
+                return message;
+            }
+        };
+    }
+
+    public int getQueueSize(String channelName) {
+        ThreadPoolTaskExecutor executor = executors.get(channelName);
+        return executor != null ? executor.getQueueSize() : 0;
+    }
+
+    public int getActiveCount(String channelName) {
+        ThreadPoolTaskExecutor executor = executors.get(channelName);
+        return executor != null ? executor.getActiveCount() : 0;
+    }
+
+    // channel + destination -> 누적 frame 수
+    public Map<String, Long> getFrameCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        frameCounts.forEach((key, count) -> counts.put(key, (long) count.count()));
+        return counts;
+    }
+
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void logStats() {
+
+        long now = System.currentTimeMillis();
+        double elapsedSeconds = Math.max(1, now - lastLoggedAt) / 1000.0;
+        lastLoggedAt = now;
+
+        executors.forEach((channelName, executor) ->
+                log.info("stomp channel executor -> channel : {}, queue : {}, active : {}, pool : {}",
+                        channelName, executor.getQueueSize(), executor.getActiveCount(), executor.getPoolSize()));
+
+        frameCounts.forEach((key, count) -> {
+            long total = (long) count.count();
+            long previous = lastFrameCounts.getOrDefault(key, 0L);
+            lastFrameCounts.put(key, total);
+            if (total > previous) {
+                log.info("stomp channel frames -> {} : {}/s", key, String.format("%.2f", (total - previous) / elapsedSeconds));
+            }
+        });
+    }
+
+    private void record(String channelName, Message<?> message) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        SimpMessageType messageType = accessor.getMessageType();
+
+        String target = destination != null
+                ? normalize(destination)
+                : String.valueOf(messageType);
+        String key = channelName + " " + target;
+
+        // destination 종류가 MAX_DESTINATIONS 를 넘으면 other 로 묶어서 tag 수를 제한
+        Counter count = frameCounts.get(key);
+        if (count == null) {
+            count = frameCounts.size() < MAX_DESTINATIONS
+                    ? frameCounts.computeIfAbsent(key, k -> frameCounter(channelName, target))
+                    : frameCounts.computeIfAbsent(channelName + " " + OTHER_DESTINATION, k -> frameCounter(channelName, OTHER_DESTINATION));
+        }
+        count.increment();
+    }
+
+    private String normalize(String destination) {
+        String target = NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+        return USER_SESSION_SUFFIX.matcher(target).replaceAll("-user{sessionId}");
+    }
+
+    private Counter frameCounter(String channelName, String destination) {
+        return Counter.builder("stomp.channel.frames")
+                .description("STOMP channel frame 수")
+                .tag("channel", channelName)
+                .tag("destination", destination)
+                .register(meterRegistry);
+    }
+}
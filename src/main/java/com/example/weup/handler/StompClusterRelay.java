@@ -0,0 +1,138 @@
+package com.example.weup.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 다중 인스턴스 WebSocket fan-out
+// broker channel 로 들어오는 MESSAGE 를 redis pub/sub 으로 발행하고, 다른 노드가 발행한 메시지는 자기 노드의 simple broker 로 전달한다.
+// 자기 노드가 발행한 메시지는 nodeId 로, 중복 수신은 최근 messageId 로 걸러낸다.
+// /user/{userId}/... 메시지는 해석 전 상태로 전달되어 각 노드가 자기 세션으로 해석하고,
+// 노드 안에서 세션별로 해석된 메시지 (/queue/...-user{sessionId}) 는 다른 노드에 세션이 없으므로 발행하지 않는다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.cluster.enabled", havingValue = "true")
+public class StompClusterRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String RELAY_CHANNEL = "stomp:cluster:relay";
+
+    private static final String RELAYED_HEADER = "clusterRelayed";
+
+    private static final int MAX_RECENT_MESSAGE_IDS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MessageChannel brokerChannel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Set<String> recentMessageIds = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_RECENT_MESSAGE_IDS;
+                }
+            }));
+
+    // broker channel 은 WebSocket 설정에서 이 interceptor 를 등록한 뒤 생성되므로 lazy 로 주입
+    public StompClusterRelay(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                             @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+    }
+
+    // 로컬 전달은 그대로 진행하고, 다른 노드로 보낼 사본만 발행
+    @Override
+    public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getDestination() == null
+                || accessor.getHeader(RELAYED_HEADER) != null
+                || accessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        RelayMessage relayMessage = new RelayMessage(nodeId, UUID.randomUUID().toString(), accessor.getDestination(),
+                contentType != null ? contentType.toString() : null, payload);
+
+        try {
+            redisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(relayMessage));
+        } catch (Exception e) {
+            // 다른 노드 전달 실패가 로컬 전달을 막지 않도록 로그만 남김
+            log.error("stomp cluster relay publish -> fail : destination - {}, error - {}", accessor.getDestination(), e.getMessage());
+        }
+
+        return message;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+
+        RelayMessage relayMessage;
+        try {
+            relayMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+        } catch (Exception e) {
+            log.error("stomp cluster relay receive -> 잘못된 메시지 : {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(relayMessage.getNodeId()) || !recentMessageIds.add(relayMessage.getMessageId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayMessage.getDestination());
+        if (relayMessage.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayMessage.getContentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, true);
+
+        brokerChannel.send(MessageBuilder.createMessage(relayMessage.getPayload(), accessor.getMessageHeaders()));
+        log.debug("stomp cluster relay receive -> destination : {}", relayMessage.getDestination());
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RelayMessage {
+
+        private String nodeId;
+
+        private String messageId;
+
+        private String destination;
+
+        private String contentType;
+
+        private byte[] payload;
+    }
+}
@@ -3,7 +3,6 @@ package com.example.weup.handler;
 import com.example.weup.entity.User;
 import com.example.weup.service.ChatService;
 import com.example.weup.service.SessionService;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -23,6 +22,8 @@ public class StompEventListener {
 
     private final ChatService chatService;
 
+    private final ChatRoomEntryExecutor chatRoomEntryExecutor;
+
     @EventListener
     public void handlerWebSocketConnect(SessionConnectedEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -59,7 +60,7 @@ public class StompEventListener {
     }
 
     @EventListener
-    public void handlerSubscribeEvent(SessionSubscribeEvent event) throws JsonProcessingException {
+    public void handlerSubscribeEvent(SessionSubscribeEvent event) {
         log.debug("\n\n WebSocket Subscribe Event Handler IN");
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = accessor.getSessionId();
@@ -71,9 +72,12 @@ public class StompEventListener {
             Long chatRoomId = Long.valueOf(destination.split("/")[4]);
             Long userId = Long.valueOf(userIdStr);
 
-            sessionService.addActiveMemberToChatRoom(chatRoomId, userId);
-            chatService.enterChatRoomEvent(chatRoomId, userId);
-            chatService.processChatRoomEntry(chatRoomId, userId);
+            // 읽지 않은 메시지가 많으면 읽음 처리가 오래 걸리므로 inbound 스레드를 막지 않도록 비동기 처리
+            chatRoomEntryExecutor.submit(chatRoomId, () -> {
+                sessionService.addActiveMemberToChatRoom(chatRoomId, userId, sessionId);
+                chatService.enterChatRoomEvent(chatRoomId, userId);
+                chatService.processChatRoomEntry(chatRoomId, userId);
+            });
         }
     }
 }
@@ -0,0 +1,82 @@
+package com.example.weup.repository;
+
+import com.example.weup.dto.response.RedisMessageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// flush 전용 JDBC batch insert (IDENTITY 전략으로 hibernate batch 가 동작하지 않아 분리)
+// uuid unique index + INSERT IGNORE 로 같은 범위를 다시 flush 해도 중복 저장되지 않음
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void batchInsertMessages(List<RedisMessageDTO> messages) {
+
+        String sql = "INSERT IGNORE INTO chat_message (uuid, chat_room_id, sender_id, message, is_image, is_prompt, sent_at, " +
+                "sender_type, display_type, original_message, original_sender_name) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, messages, BATCH_SIZE, (ps, message) -> {
+            ps.setString(1, message.getUuid());
+            ps.setLong(2, message.getChatRoomId());
+            if (message.getMemberId() != null) {
+                ps.setLong(3, message.getMemberId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, message.getMessage());
+            ps.setBoolean(5, Boolean.TRUE.equals(message.getIsImage()));
+            ps.setBoolean(6, Boolean.TRUE.equals(message.getIsPrompt()));
+            ps.setTimestamp(7, Timestamp.valueOf(message.getSentAt()));
+            ps.setString(8, message.getSenderType().name());
+            ps.setString(9, message.getDisplayType().name());
+            ps.setString(10, message.getOriginalMessage());
+            ps.setString(11, message.getOriginalSenderName());
+        });
+    }
+
+    public Map<String, Long> findMessageIdsByUuids(Collection<String> uuids) {
+
+        Map<String, Long> messageIds = new HashMap<>();
+        if (uuids.isEmpty()) {
+            return messageIds;
+        }
+
+        List<String> uuidList = List.copyOf(uuids);
+        for (int from = 0; from < uuidList.size(); from += BATCH_SIZE) {
+            namedParameterJdbcTemplate.query(
+                    "SELECT message_id, uuid FROM chat_message WHERE uuid IN (:uuids)",
+                    new MapSqlParameterSource("uuids", uuidList.subList(from, Math.min(from + BATCH_SIZE, uuidList.size()))),
+                    rs -> {
+                        messageIds.put(rs.getString("uuid"), rs.getLong("message_id"));
+                    });
+        }
+
+        return messageIds;
+    }
+
+    // long[] = {messageId, memberId}
+    public void batchInsertReadMembers(List<long[]> readMembers) {
+
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO read_members (message_id, member_id) VALUES (?, ?)",
+                readMembers, BATCH_SIZE, (ps, readMember) -> {
+                    ps.setLong(1, readMember[0]);
+                    ps.setLong(2, readMember[1]);
+                });
+    }
+}
@@ -18,6 +18,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             " ORDER BY sent_at DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
     List<ChatMessage> findMessagesByChatRoomIdWithOffset(@Param("chatRoomId") Long chatRoomId, @Param("limit") int limit, @Param("offset") int offset);
 
+    @Query(value = "SELECT * FROM chat_message WHERE chat_room_id = :chatRoomId" +
+            " ORDER BY sent_at DESC, uuid DESC LIMIT :limit", nativeQuery = true)
+    List<ChatMessage> findLatestMessagesByChatRoomId(@Param("chatRoomId") Long chatRoomId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM chat_message WHERE chat_room_id = :chatRoomId" +
+            " AND (sent_at < :sentAt OR (sent_at = :sentAt AND uuid < :uuid))" +
+            " ORDER BY sent_at DESC, uuid DESC LIMIT :limit", nativeQuery = true)
+    List<ChatMessage> findMessagesByChatRoomIdBeforeCursor(@Param("chatRoomId") Long chatRoomId, @Param("sentAt") LocalDateTime sentAt,
+                                                           @Param("uuid") String uuid, @Param("limit") int limit);
+
     void deleteByChatRoom(ChatRoom chatRoom);
 
     ChatMessage findTopByChatRoom_ChatRoomIdOrderBySentAtDesc(Long roomId);
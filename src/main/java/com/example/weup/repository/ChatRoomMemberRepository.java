@@ -4,6 +4,8 @@ import com.example.weup.entity.ChatRoom;
 import com.example.weup.entity.ChatRoomMember;
 import com.example.weup.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -17,5 +19,12 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
 
     List<ChatRoomMember> findByMember(Member member);
 
+    // 채팅방 목록 조회용, member 가 속한 모든 채팅방의 멤버를 채팅방 / 유저와 함께 한 번에 조회
+    @Query("SELECT chatRoomMember FROM ChatRoomMember chatRoomMember JOIN FETCH chatRoomMember.chatRoom chatRoom " +
+            "JOIN FETCH chatRoomMember.member member JOIN FETCH member.user " +
+            "WHERE chatRoom IN (SELECT myChatRoomMember.chatRoom FROM ChatRoomMember myChatRoomMember WHERE myChatRoomMember.member = :member) " +
+            "ORDER BY chatRoomMember.chatRoomMemberId")
+    List<ChatRoomMember> findAllWithMemberInChatRoomsOf(@Param("member") Member member);
+
     int countByChatRoom_ChatRoomId(Long chatRoomId);
 }
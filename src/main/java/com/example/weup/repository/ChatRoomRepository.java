@@ -3,8 +3,11 @@ package com.example.weup.repository;
 import com.example.weup.entity.ChatRoom;
 import com.example.weup.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +16,8 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<ChatRoom> findByProject(Project project);
 
     ChatRoom findByProjectAndBasicTrue(Project project);
+
+    // 구독 권한 cache 용, {chatRoomId, projectId}
+    @Query("SELECT chatRoom.chatRoomId, chatRoom.project.projectId FROM ChatRoom chatRoom WHERE chatRoom.project.projectId IN :projectIds")
+    List<Object[]> findChatRoomIdsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
             "WHERE member.user.userId = :userId AND member.isMemberDeleted = false AND project.projectDeletedTime IS NULL")
     List<Member> findActiveMemberByUserId(@Param("userId") Long userId);
 
+    @Query("SELECT member FROM Member member JOIN FETCH member.user WHERE member.memberId IN :memberIds")
+    List<Member> findAllWithUserByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    List<Member> findByUser_UserIdAndIsMemberDeletedFalse(Long userId);
+
     boolean existsByUser_UserIdAndProject_ProjectId(Long userId, Long projectId);
 
     Optional<Member> findByUser_UserIdAndProject_ProjectId(Long userId, Long projectId);
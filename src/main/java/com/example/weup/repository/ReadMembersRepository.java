@@ -7,13 +7,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ReadMembersRepository extends JpaRepository<ReadMembers, Long> {
 
     @Query("SELECT COUNT(mr) FROM ReadMembers mr WHERE mr.chatMessage.messageId = :messageId")
     Long countReadMembersByMessageId(@Param("messageId") Long messageId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query(value = "INSERT IGNORE INTO read_members(message_id, member_id) VALUES (:messageId, :memberId)", nativeQuery = true)
-    int insertIgnore(@Param("messageId") Long messageId, @Param("memberId") Long memberId);
+    // read watermark migration 용, 채팅방 / 멤버별 마지막으로 읽은 메시지 시각
+    @Query(value = "SELECT cm.chat_room_id, rm.member_id, MAX(cm.sent_at) FROM read_members rm" +
+            " JOIN chat_message cm ON cm.message_id = rm.message_id GROUP BY cm.chat_room_id, rm.member_id", nativeQuery = true)
+    List<Object[]> findLastReadAtGroupByChatRoomAndMember();
+
+    // 채팅방 입장 시 마지막으로 읽은 시각 이후의 메시지를 한 번에 읽음 처리 (SYSTEM 메시지 제외)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO read_members(message_id, member_id)" +
+            " SELECT cm.message_id, :memberId FROM chat_message cm" +
+            " WHERE cm.chat_room_id = :chatRoomId AND cm.sent_at > :sentAt AND cm.sender_type <> 'SYSTEM'", nativeQuery = true)
+    int insertIgnoreAllAfter(@Param("chatRoomId") Long chatRoomId, @Param("memberId") Long memberId, @Param("sentAt") LocalDateTime sentAt);
 }
@@ -1,8 +1,7 @@
 package com.example.weup.security;
 
-import com.example.weup.entity.User;
-import com.example.weup.repository.UserRepository;
 import com.example.weup.security.exception.JwtAuthenticationEntryPoint;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -24,15 +22,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    // 검증된 principal 을 담는 request attribute, @LoginUser 에서 토큰을 다시 파싱하지 않도록 사용
+    public static final String PRINCIPAL_ATTRIBUTE = JwtFilter.class.getName() + ".principal";
 
-    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
     private static final List<String> WHITE_LIST = List.of(
             "/user/signIn", "/user/signup", "/user/reissuetoken", "/user/email", "/user/email/check", "/welcome",
-            "/error", "/ai", "/ai/**", "/ws", "/ws/**"
+            "/error", "/ai", "/ai/**", "/ws", "/ws/**", "/images/", "/actuator/health"
     );
 
     @Override
@@ -51,18 +50,20 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (jwtUtil.isExpired(token)) {
-            log.warn("JWT 만료");
+        // 토큰은 한 번만 파싱, 인증 정보는 claim 으로 구성 (user 조회 없음)
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (Exception e) {
+            log.warn("JWT 만료 또는 검증 실패 : {}", e.getMessage());
             jwtAuthenticationEntryPoint.commence(request, response, new BadCredentialsException("토큰 만료"));
             return;
         }
 
-        Long userId = jwtUtil.getUserId(token);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+        JwtPrincipal principal = JwtPrincipal.from(claims);
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
 
-        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
@@ -0,0 +1,28 @@
+package com.example.weup.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+// access token claim 만으로 만든 인증 주체 (요청마다 user 조회 없음)
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+
+    private final Long userId;
+
+    private final String role;
+
+    public static JwtPrincipal from(Claims claims) {
+        return new JwtPrincipal(claims.get("userId", Long.class), claims.get("role", String.class));
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of();
+    }
+}
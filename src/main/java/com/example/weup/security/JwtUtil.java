@@ -3,7 +3,6 @@ package com.example.weup.security;
 import io.jsonwebtoken.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
@@ -13,7 +12,6 @@ import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
@@ -22,6 +20,21 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // JwtParser 는 thread-safe 하므로 한 번만 생성해 공유
+    private final JwtParser jwtParser;
+
+    public JwtUtil(JwtProperties jwtProperties, StringRedisTemplate redisTemplate, SecretKey secretKey, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtProperties = jwtProperties;
+        this.redisTemplate = redisTemplate;
+        this.secretKey = secretKey;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
+
     public String createAccessToken(Long userId, String role) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + jwtProperties.getAccessTokenExpiration());
@@ -77,11 +90,20 @@ public class JwtUtil {
         return extractAllClaims(token).get("role", String.class);
     }
 
+    // 서명 / 만료 검증 후 claim 반환, 검증 실패 시 JwtException
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
+    // 검증된 토큰은 exp 까지 cache 에서 반환
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokenCache.put(token, claims);
+        return claims;
     }
 }
@@ -0,0 +1,110 @@
+package com.example.weup.security;
+
+import com.example.weup.util.ExpiringLruCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+
+// 서명 검증이 끝난 토큰의 claim cache (key : 토큰 SHA-256, 토큰 exp 시점에 만료)
+// HTTP filter, @LoginUser, STOMP frame 마다 같은 access token 을 반복 검증하지 않도록 사용
+// 가득 차면 가장 오래 사용하지 않은 토큰부터 제거
+// cache.gets (counter, tag : cache, result = hit / miss), cache.size (gauge, tag : cache) 로 Micrometer 에 등록
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = 300_000;
+
+    private final ExpiringLruCache<String, Claims> cache = new ExpiringLruCache<>(MAX_CACHED_TOKENS);
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+                .description("검증된 토큰 cache 조회 수")
+                .tag("cache", "verifiedToken")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+                .description("검증된 토큰 cache 조회 수")
+                .tag("cache", "verifiedToken")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, ExpiringLruCache::size)
+                .description("검증된 토큰 cache entry 수")
+                .tag("cache", "verifiedToken")
+                .register(meterRegistry);
+    }
+
+    // 만료되지 않은 cache 가 있으면 반환, 없으면 null
+    public Claims get(String token) {
+
+        Claims claims = cache.get(hash(token));
+        if (claims != null) {
+            hitCount.increment();
+            return claims;
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    public void put(String token, Claims claims) {
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+
+        cache.put(hash(token), claims, expiration.getTime());
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void evictExpiredAndLogStats() {
+        cache.evictExpired();
+        log.info("verified token cache -> size : {}, hit : {}, miss : {}, hit rate : {}",
+                size(), getHitCount(), getMissCount(), String.format("%.3f", getHitRate()));
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -20,7 +20,6 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientException;
@@ -36,7 +35,7 @@ public class AiChatService {
 
     private final RestTemplate restTemplate;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
 
     private final ChatService chatService;
 
@@ -148,7 +147,7 @@ public class AiChatService {
 
         memberRoleRepository.save(memberRole);
 
-        messagingTemplate.convertAndSend("/topic/role/" + aiRoleAssignDto.getProjectId(), Map.of("editedBy", "AI 비서"));
+        stompEventPublisher.publish("/topic/role/" + aiRoleAssignDto.getProjectId(), Map.of("editedBy", "AI 비서"));
 
         log.info("AI Request Assign Role -> success : member id - {}, role id - {}", member.getMemberId(), role.getRoleId());
     }
@@ -166,7 +165,7 @@ public class AiChatService {
 
         todoRepository.save(todo);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/todo/" + aiTodoCreateDto.getProjectId(),
                 Map.of("createdBy", "AI 비서")
         );
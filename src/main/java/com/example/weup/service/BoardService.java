@@ -2,10 +2,12 @@ package com.example.weup.service;
 
 import com.example.weup.GeneralException;
 import com.example.weup.constant.ErrorInfo;
+import com.example.weup.constant.UploadPurpose;
 import com.example.weup.dto.request.BoardCreateRequestDTO;
 import com.example.weup.dto.request.BoardListRequestDTO;
 import com.example.weup.dto.request.EditBoardRequestDTO;
 import com.example.weup.dto.response.BoardDetailResponseDTO;
+import com.example.weup.dto.response.FileFullResponseDTO;
 import com.example.weup.dto.response.FileResponseDTO;
 import com.example.weup.validate.MemberValidator;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
@@ -33,7 +36,10 @@ public class BoardService {
     private final TagRepository tagRepository;
     private final FileRepository fileRepository;
     private final S3Service s3Service;
+    private final ImageService imageService;
     private final MemberValidator memberValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadSessionService uploadSessionService;
 
     @Transactional
     public void createTag(String tagName) {
@@ -41,9 +47,28 @@ public class BoardService {
         tagRepository.save(newTag);
     }
 
-    @Transactional
+    // 첨부 파일은 트랜잭션 밖에서 병렬 업로드하고, 트랜잭션에서는 게시글 / File row 만 저장 (실패 시 업로드한 파일 삭제)
+    // 직접 업로드 세션은 commit 후에만 정리하고, 실패하면 사용 표시만 풀어서 다시 사용할 수 있게 함
     public void createBoard(Long userId, BoardCreateRequestDTO boardCreateRequestDTO) {
 
+        memberValidator.validateActiveMemberIdInProject(userId, boardCreateRequestDTO.getProjectId());
+
+        List<FileFullResponseDTO> uploadedFiles = s3Service.uploadFiles(boardCreateRequestDTO.getFile());
+        List<FileFullResponseDTO> boardFiles = new ArrayList<>(uploadedFiles);
+        boardFiles.addAll(claimUploadSessions(userId, boardCreateRequestDTO.getUploadSessionIds(), uploadedFiles));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveBoard(userId, boardCreateRequestDTO, boardFiles));
+        } catch (RuntimeException e) {
+            s3Service.deleteFiles(uploadedFiles.stream().map(FileFullResponseDTO::getStoredFileName).toList());
+            uploadSessionService.releaseAll(boardCreateRequestDTO.getUploadSessionIds());
+            throw e;
+        }
+        uploadSessionService.finishAll(boardCreateRequestDTO.getUploadSessionIds());
+    }
+
+    private void saveBoard(Long userId, BoardCreateRequestDTO boardCreateRequestDTO, List<FileFullResponseDTO> uploadedFiles) {
+
         Member member = memberValidator.validateActiveMemberInProject(userId, boardCreateRequestDTO.getProjectId());
 
         Project project = projectRepository.findById(boardCreateRequestDTO.getProjectId())
@@ -61,8 +86,8 @@ public class BoardService {
                 .build();
         boardRepository.save(board);
 
-        if (boardCreateRequestDTO.getFile() != null) {
-            fileService.saveFilesForBoard(board, boardCreateRequestDTO.getFile());
+        if (!uploadedFiles.isEmpty()) {
+            fileService.saveFilesForBoard(board, uploadedFiles);
         }
     }
 
@@ -74,9 +99,11 @@ public class BoardService {
                 Sort.by(Sort.Direction.DESC, "boardCreateTime")
         );
 
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         Page<Board> boards = boardRepository.findByProjectIdAndFilters(projectId, boardListRequestDTO.getTag(), boardListRequestDTO.getSearch(), pageable);
+        Map<String, String> imageUrls = imageService.getImageUrls(
+                boards.getContent().stream().map(this::getWriterProfileImageKey).toList());
 
         return boards.map(board -> {
             boolean hasFile = fileRepository.existsByBoard(board);
@@ -84,7 +111,7 @@ public class BoardService {
             return BoardListResponseDTO.builder()
                     .boardId(board.getBoardId())
                     .name(getWriterName(board))
-                    .profileImage(getWriterProfileImage(board))
+                    .profileImage(imageUrls.get(getWriterProfileImageKey(board)))
                     .title(board.getTitle())
                     .boardCreatedTime(board.getBoardCreateTime())
                     .tag(board.getTag().getTagName())
@@ -98,7 +125,7 @@ public class BoardService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new GeneralException(ErrorInfo.BOARD_NOT_FOUND));
 
-        memberValidator.validateActiveMemberInProject(userId, board.getProject().getProjectId());
+        memberValidator.validateActiveMemberIdInProject(userId, board.getProject().getProjectId());
 
         List<FileResponseDTO> fileDTOs = fileService.getFileResponses(board);
 
@@ -114,9 +141,53 @@ public class BoardService {
                 .build();
     }
 
-    @Transactional
+    // 추가 파일은 트랜잭션 밖에서 병렬 업로드 (권한 확인 후), 트랜잭션 실패 시 업로드한 파일 삭제
     public void editBoard(Long userId, Long boardId, EditBoardRequestDTO editBoardRequestDTO) {
 
+        List<FileFullResponseDTO> uploadedFiles = new ArrayList<>();
+        List<FileFullResponseDTO> addedFiles = new ArrayList<>();
+        boolean hasNewFiles = editBoardRequestDTO.getFile() != null && !editBoardRequestDTO.getFile().isEmpty();
+        boolean hasUploadSessions = editBoardRequestDTO.getUploadSessionIds() != null && !editBoardRequestDTO.getUploadSessionIds().isEmpty();
+        if (hasNewFiles || hasUploadSessions) {
+            validateBoardEditor(userId, boardId);
+            uploadedFiles.addAll(s3Service.uploadFiles(editBoardRequestDTO.getFile()));
+            addedFiles.addAll(uploadedFiles);
+            addedFiles.addAll(claimUploadSessions(userId, editBoardRequestDTO.getUploadSessionIds(), uploadedFiles));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> updateBoard(userId, boardId, editBoardRequestDTO, addedFiles));
+        } catch (RuntimeException e) {
+            s3Service.deleteFiles(uploadedFiles.stream().map(FileFullResponseDTO::getStoredFileName).toList());
+            uploadSessionService.releaseAll(editBoardRequestDTO.getUploadSessionIds());
+            throw e;
+        }
+        uploadSessionService.finishAll(editBoardRequestDTO.getUploadSessionIds());
+    }
+
+    // 직접 업로드 세션 확인 및 사용 표시, 실패하면 이미 서버를 거쳐 업로드한 파일 삭제
+    private List<FileFullResponseDTO> claimUploadSessions(Long userId, List<String> uploadSessionIds, List<FileFullResponseDTO> uploadedFiles) {
+        try {
+            return uploadSessionService.claimAll(userId, uploadSessionIds, UploadPurpose.BOARD_FILE);
+        } catch (RuntimeException e) {
+            s3Service.deleteFiles(uploadedFiles.stream().map(FileFullResponseDTO::getStoredFileName).toList());
+            throw e;
+        }
+    }
+
+    private void validateBoardEditor(Long userId, Long boardId) {
+
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new GeneralException(ErrorInfo.BOARD_NOT_FOUND));
+
+        Member member = memberValidator.validateActiveMemberInProject(userId, board.getProject().getProjectId());
+        if (board.getMember() != null) {
+            memberValidator.validateBoardWriter(board, member);
+        }
+    }
+
+    private void updateBoard(Long userId, Long boardId, EditBoardRequestDTO editBoardRequestDTO, List<FileFullResponseDTO> addedFiles) {
+
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new GeneralException(ErrorInfo.BOARD_NOT_FOUND));
 
@@ -130,8 +201,8 @@ public class BoardService {
 
         board.editBoard(editBoardRequestDTO.getTitle().trim(), editBoardRequestDTO.getContents().trim(), tag);
 
-        if (editBoardRequestDTO.getFile() != null) {
-            fileService.addFiles(board, editBoardRequestDTO.getFile());
+        if (!addedFiles.isEmpty()) {
+            fileService.saveFilesForBoard(board, addedFiles);
         }
 
         if (editBoardRequestDTO.getRemoveFileIds() != null && !editBoardRequestDTO.getRemoveFileIds().isEmpty()) {
@@ -157,10 +228,8 @@ public class BoardService {
         }
 
         List<File> files = fileRepository.findAllByBoard(board);
-        for (File file : files) {
-            s3Service.deleteFile(file.getStoredName());
-        }
         fileRepository.deleteAll(files);
+        s3Service.deleteFilesAfterCommit(files.stream().map(File::getStoredName).toList());
 
         boardRepository.delete(board);
     }
@@ -173,10 +242,14 @@ public class BoardService {
     }
 
     private String getWriterProfileImage(Board board) {
+        return imageService.getImageUrl(getWriterProfileImageKey(board));
+    }
+
+    private String getWriterProfileImageKey(Board board) {
         if (board.getMember() != null) {
-            return s3Service.getPresignedUrl(board.getMember().getUser().getProfileImage());
+            return board.getMember().getUser().getProfileImage();
         }
-        return s3Service.getPresignedUrl(board.getSenderType().getProfileImage());
+        return board.getSenderType().getProfileImage();
     }
 
 }
@@ -0,0 +1,68 @@
+package com.example.weup.service;
+
+import com.example.weup.GeneralException;
+import com.example.weup.constant.ErrorInfo;
+import com.example.weup.entity.ChatMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅 기록 keyset cursor, (sentAt, uuid) 를 base64url 로 인코딩
+// 같은 sentAt 의 메시지도 uuid 로 순서가 정해지므로 페이지 경계에서 중복 / 누락이 없음
+final class ChatCursor {
+
+    // (sentAt, uuid) 내림차순
+    static final Comparator<ChatMessage> NEWEST_FIRST =
+            Comparator.comparing(ChatMessage::getSentAt).thenComparing(ChatMessage::getUuid).reversed();
+
+    private ChatCursor() {
+    }
+
+    static String encode(ChatMessage chatMessage) {
+        String raw = chatMessage.getSentAt() + "|" + chatMessage.getUuid();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 (cursor 없음) 면 null
+    static ChatMessage decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            return ChatMessage.builder()
+                    .sentAt(LocalDateTime.parse(parts[0]))
+                    .uuid(parts[1])
+                    .build();
+        } catch (RuntimeException e) {
+            throw new GeneralException(ErrorInfo.BAD_REQUEST);
+        }
+    }
+
+    // cursor 보다 이전 (다음 페이지에 포함될) 메시지인지
+    static boolean isOlderThan(ChatMessage chatMessage, ChatMessage cursor) {
+        return NEWEST_FIRST.compare(chatMessage, cursor) > 0;
+    }
+
+    // redis / mysql 메시지 병합, 같은 uuid 는 redis 를 우선하고 최신순 정렬
+    static List<ChatMessage> mergeNewestFirst(Collection<ChatMessage> redisMessages, Collection<ChatMessage> dbMessages) {
+        Map<String, ChatMessage> combinedMessages = new LinkedHashMap<>();
+        for (ChatMessage redisMessage : redisMessages) {
+            combinedMessages.put(redisMessage.getUuid(), redisMessage);
+        }
+        for (ChatMessage dbMessage : dbMessages) {
+            combinedMessages.putIfAbsent(dbMessage.getUuid(), dbMessage);
+        }
+
+        return combinedMessages.values().stream()
+                .sorted(NEWEST_FIRST)
+                .toList();
+    }
+}
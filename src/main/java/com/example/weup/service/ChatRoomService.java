@@ -26,7 +26,9 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,7 +49,7 @@ public class ChatRoomService {
 
     private final MemberRepository memberRepository;
 
-    private final S3Service s3Service;
+    private final ImageService imageService;
 
     private final ChatMessageRepository chatMessageRepository;
 
@@ -55,6 +57,14 @@ public class ChatRoomService {
 
     private final SessionService sessionService;
 
+    private final LastMessageCacheService lastMessageCacheService;
+
+    private final ReadWatermarkService readWatermarkService;
+
+    private final UnreadCountService unreadCountService;
+
+    private final SubscriptionAclService subscriptionAclService;
+
     public ChatRoom createBasicChatRoom(Project project, String projectName) {
 
         ChatRoom chatRoom = ChatRoom.builder()
@@ -108,6 +118,11 @@ public class ChatRoomService {
         log.info("채팅방에 있는 멤버 : {} 명", memberInChatRoom.size());
         memberInChatRoom.forEach(member -> log.info("Member In Chat Room Id : {}", member.getMemberId()));
 
+        Map<String, String> imageUrls = imageService.getImageUrls(allProjectMember.stream()
+                .filter(member -> !memberInChatRoom.contains(member))
+                .map(member -> member.getUser().getProfileImage())
+                .toList());
+
         return allProjectMember.stream()
                 .filter(member -> {
                     boolean isNotInChatRoom = !memberInChatRoom.contains(member);
@@ -120,7 +135,7 @@ public class ChatRoomService {
                 .map(member -> GetInvitableListDTO.builder()
                         .memberId(member.getMemberId())
                         .memberName(member.getUser().getName())
-                        .profileImage(s3Service.getPresignedUrl(member.getUser().getProfileImage()))
+                        .profileImage(imageUrls.get(member.getUser().getProfileImage()))
                         .build())
                 .collect(Collectors.toList());
     }
@@ -163,6 +178,7 @@ public class ChatRoomService {
         chatRoomRepository.save(chatRoom);
     }
 
+    // 채팅방 / 멤버 / 이름은 쿼리 한 번, 읽지 않은 메시지 수는 redis counter 로 한 번에 조회
     @Transactional
     public List<GetChatRoomListDTO> getChatRoomList(Long userId, Long projectId) {
 
@@ -170,26 +186,43 @@ public class ChatRoomService {
         Project project = projectValidator.validateActiveProject(projectId);
         Member member = memberValidator.validateActiveMemberInProject(userId, project.getProjectId());
 
-        List<ChatRoomMember> chatRoomMembers = chatRoomMemberRepository.findByMember(member);
+        Map<Long, List<ChatRoomMember>> chatRoomMembersByRoom = chatRoomMemberRepository.findAllWithMemberInChatRoomsOf(member).stream()
+                .collect(Collectors.groupingBy(chatRoomMember -> chatRoomMember.getChatRoom().getChatRoomId(),
+                        LinkedHashMap::new, Collectors.toList()));
 
-        return chatRoomMembers.stream()
-                .map(ChatRoomMember::getChatRoom)
+        List<ChatRoom> chatRooms = chatRoomMembersByRoom.values().stream()
+                .map(chatRoomMembers -> chatRoomMembers.getFirst().getChatRoom())
                 .sorted(Comparator
                         .comparing(ChatRoom::isBasic, Comparator.reverseOrder())
                         .thenComparing(ChatRoom::getCreatedAt, Comparator.reverseOrder())
                 )
+                .toList();
+
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(userId,
+                chatRooms.stream().map(ChatRoom::getChatRoomId).toList());
+
+        return chatRooms.stream()
                 .map(chatRoom -> {
-                    ChatRoomMember targetChatRoomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member);
+                    List<ChatRoomMember> chatRoomMembers = chatRoomMembersByRoom.get(chatRoom.getChatRoomId());
 
-                    List<String> chatRoomMemberNames = chatRoomMemberRepository.findByChatRoom(chatRoom).stream()
+                    ChatRoomMember targetChatRoomMember = chatRoomMembers.stream()
+                            .filter(chatRoomMember -> chatRoomMember.getMember().getMemberId().equals(member.getMemberId()))
+                            .findFirst()
+                            .orElseThrow(() -> new GeneralException(ErrorInfo.MEMBER_NOT_FOUND));
+
+                    List<String> chatRoomMemberNames = chatRoomMembers.stream()
                             .map(chatRoomMember -> chatRoomMember.getMember().getUser().getName())
                             .collect(Collectors.toList());
                     log.debug("get chat room member names, count : {}", chatRoomMemberNames.size());
 
-                    long unreadMessageCount = getUnreadMessageCount(chatRoom.getChatRoomId(), userId);
+                    // counter 전환 이후 아직 읽음 기록이 없는 채팅방만 범위 count 로 계산
+                    Long unreadMessageCount = unreadCounts.get(chatRoom.getChatRoomId());
+                    if (unreadMessageCount == null) {
+                        unreadMessageCount = getUnreadMessageCount(chatRoom.getChatRoomId(), userId);
+                    }
                     log.debug("get unread message count : {}", unreadMessageCount);
 
-                    ChatMessage latestMessage;
+                    LastMessageCacheService.LastMessage latestMessage;
                     try {
                         latestMessage = chatService.getLatestMessage(chatRoom.getChatRoomId());
                     } catch (JsonProcessingException e) {
@@ -245,6 +278,9 @@ public class ChatRoomService {
 
         ChatRoomMember chatRoomMember = chatRoomMemberRepository.findByChatRoomAndMember(chatRoom, member);
         chatRoomMemberRepository.delete(chatRoomMember);
+        readWatermarkService.removeMember(chatRoomId, member.getMemberId());
+        unreadCountService.removeMember(chatRoomId, userId);
+        subscriptionAclService.evict(userId);
 
         chatService.sendSystemMessage(chatRoomId, member.getUser().getName() + "님이 채팅방에서 퇴장했습니다.");
 
@@ -254,6 +290,9 @@ public class ChatRoomService {
             String key = "chat:room:" + chatRoomId;
 
             redisTemplate.delete(key);
+            lastMessageCacheService.evict(chatRoomId);
+            readWatermarkService.deleteChatRoom(chatRoomId);
+            unreadCountService.deleteChatRoom(chatRoomId);
             chatMessageRepository.deleteByChatRoom(chatRoom);
             chatRoomRepository.delete(chatRoom);
 
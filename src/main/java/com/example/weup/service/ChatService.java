@@ -4,9 +4,12 @@ import com.example.weup.GeneralException;
 import com.example.weup.constant.DisplayType;
 import com.example.weup.constant.ErrorInfo;
 import com.example.weup.constant.SenderType;
+import com.example.weup.constant.UploadPurpose;
+import com.example.weup.dto.request.GetChatCursorRequestDTO;
 import com.example.weup.dto.request.GetPageable;
 import com.example.weup.dto.request.SendImageMessageRequestDTO;
 import com.example.weup.dto.request.SendMessageRequestDTO;
+import com.example.weup.dto.response.ChatCursorResponseDTO;
 import com.example.weup.dto.response.EnterChatRoomResponseDTO;
 import com.example.weup.dto.response.ReceiveMessageResponseDTO;
 import com.example.weup.dto.response.ReceiveMessageToConnectResponseDTO;
@@ -19,17 +22,22 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -41,27 +49,70 @@ import java.util.stream.Collectors;
 public class ChatService{
 
     private final S3Service s3Service;
+    private final ImageService imageService;
+    private final UploadSessionService uploadSessionService;
 
     private final SessionService sessionService;
 
+    private final LastMessageCacheService lastMessageCacheService;
+
+    private final ReadWatermarkService readWatermarkService;
+
+    private final UnreadCountService unreadCountService;
+
     private final MemberRepository memberRepository;
 
     private final ReadMembersRepository readMembersRepository;
 
     private final ChatMessageRepository chatMessageRepository;
 
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
     private final ChatRoomMemberRepository chatRoomMemberRepository;
 
+    private final ChatRoomRepository chatRoomRepository;
+
     private final ObjectMapper objectMapper;
 
     private final StringRedisTemplate redisTemplate;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
 
     private final ChatValidator chatValidator;
 
     private final MemberValidator memberValidator;
 
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> saveChatMessageScript;
+
+    private final RedisScript<Long> completeChatFlushScript;
+
+    // watermark 전환 기간 동안 메시지별 읽음 기록(readUsers, read_members)도 함께 저장
+    @Value("${chat.read-receipt.legacy-write:true}")
+    private boolean legacyReadReceiptWrite;
+
+    private static final DateTimeFormatter MINUTE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+
+    // client 가 보내는 size 의 상한, redis / DB 조회와 hydrate 양을 제한
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final String DIRTY_ROOMS_KEY = "chat:flush:dirtyRooms";
+
+    private static final String WATERMARKS_KEY = "chat:flush:watermarks";
+
+    private static final long FLUSH_INTERVAL_MILLIS = 5000;
+
+    // 방금 저장된 메시지와 같은 score 가 watermark 에 걸리지 않도록 두는 여유 시간
+    private static final long FLUSH_SETTLE_MILLIS = 3000;
+
+    private static final int FLUSH_ROOMS_PER_RUN = 50;
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private volatile boolean dirtyRoomsSeeded = false;
+
     // basic chat message
     @Transactional
     public void sendBasicMessage(Long chatRoomId, SendMessageRequestDTO messageRequestDTO, Boolean isPrompt) throws JsonProcessingException {
@@ -74,8 +125,6 @@ public class ChatService{
         memberValidator.isMemberAlreadyInChatRoom(chatRoom, sendMember, true);
         log.debug("member validator 탈출");
 
-        checkAndSendDateChangeMessage(chatRoomId, LocalDateTime.now());
-
         RedisMessageDTO basicMessage = RedisMessageDTO.builder()
                 .chatRoomId(chatRoomId)
                 .uuid(UUID.randomUUID().toString())
@@ -84,18 +133,18 @@ public class ChatService{
                 .isImage(messageRequestDTO.getIsImage())
                 .isPrompt(isPrompt)
                 .sentAt(LocalDateTime.now())
-                .displayType(setDisplayType(chatRoomId, messageRequestDTO.getSenderId(), SenderType.MEMBER, messageRequestDTO.getSentAt()))
                 .build();
 
-        saveMessage(chatRoomId, basicMessage);
+        saveMessage(chatRoomId, basicMessage, messageRequestDTO.getSentAt());
         log.debug("send basic message -> end, member id : {}", sendMember.getMemberId());
     }
 
     // image chat message
     @Transactional
-    public void sendImageMessage(Long chatRoomId, SendImageMessageRequestDTO sendImageMessageRequestDTO) throws IOException {
+    public void sendImageMessage(Long userId, Long chatRoomId, SendImageMessageRequestDTO sendImageMessageRequestDTO) throws IOException {
 
-        if (sendImageMessageRequestDTO.getFile() == null || sendImageMessageRequestDTO.getFile().isEmpty()) {
+        boolean hasUploadSession = sendImageMessageRequestDTO.getUploadSessionId() != null;
+        if (!hasUploadSession && (sendImageMessageRequestDTO.getFile() == null || sendImageMessageRequestDTO.getFile().isEmpty())) {
             throw new GeneralException(ErrorInfo.FILE_UPLOAD_FAILED);
         }
 
@@ -104,8 +153,19 @@ public class ChatService{
         Member sendMember = memberValidator.validateMemberAndProject(sendImageMessageRequestDTO.getSenderId());
         memberValidator.isMemberAlreadyInChatRoom(chatRoom, sendMember, true);
 
-        checkAndSendDateChangeMessage(chatRoomId, LocalDateTime.now());
-        String storedFileName = s3Service.uploadSingleFile(sendImageMessageRequestDTO.getFile()).getStoredFileName();
+        // senderId 는 client 가 보내는 값이므로 로그인한 사용자와 같은지 확인
+        if (!sendMember.getUser().getUserId().equals(userId)) {
+            throw new GeneralException(ErrorInfo.FORBIDDEN);
+        }
+
+        String storedFileName;
+        if (hasUploadSession) {
+            // client 가 storage 에 직접 업로드한 이미지, commit 후에만 세션 정리 (rollback 되면 다시 사용 가능)
+            storedFileName = uploadSessionService.claimUntilCompletion(userId, sendImageMessageRequestDTO.getUploadSessionId(), UploadPurpose.CHAT_IMAGE)
+                    .getStoredFileName();
+        } else {
+            storedFileName = s3Service.uploadSingleFile(sendImageMessageRequestDTO.getFile()).getStoredFileName();
+        }
 
         RedisMessageDTO imgMessage = RedisMessageDTO.builder()
                 .chatRoomId(chatRoomId)
@@ -115,10 +175,9 @@ public class ChatService{
                 .isImage(true)
                 .isPrompt(false)
                 .sentAt(LocalDateTime.now())
-                .displayType(setDisplayType(chatRoomId, sendMember.getMemberId(), SenderType.MEMBER, LocalDateTime.now()))
                 .build();
 
-        saveMessage(chatRoomId, imgMessage);
+        saveMessage(chatRoomId, imgMessage, imgMessage.getSentAt());
         log.debug("send image message -> end, member id : {}", sendMember.getMemberId());
     }
 
@@ -129,8 +188,6 @@ public class ChatService{
         log.debug("Send System Message 부분으로 넘어옴");
         chatValidator.validateChatRoom(chatRoomId);
 
-        checkAndSendDateChangeMessage(chatRoomId, LocalDateTime.now());
-
         RedisMessageDTO systemMessage = RedisMessageDTO.builder()
                 .chatRoomId(chatRoomId)
                 .uuid(UUID.randomUUID().toString())
@@ -143,7 +200,7 @@ public class ChatService{
                 .displayType(DisplayType.DEFAULT)
                 .build();
 
-        saveMessage(chatRoomId, systemMessage);
+        saveMessage(chatRoomId, systemMessage, null);
         log.debug("send system message -> end");
     }
 
@@ -153,8 +210,6 @@ public class ChatService{
 
         chatValidator.validateChatRoom(chatRoomId);
 
-        checkAndSendDateChangeMessage(chatRoomId, LocalDateTime.now());
-
         RedisMessageDTO aiMessage = RedisMessageDTO.builder()
                 .chatRoomId(chatRoomId)
                 .uuid(UUID.randomUUID().toString())
@@ -164,38 +219,100 @@ public class ChatService{
                 .isPrompt(false)
                 .sentAt(LocalDateTime.now())
                 .senderType(SenderType.AI)
-                .displayType(setDisplayType(chatRoomId, null, SenderType.AI, LocalDateTime.now()))
                 .originalMessage(originalUserMessage)
                 .originalSenderName(originalSenderName)
                 .build();
 
-        saveMessage(chatRoomId, aiMessage);
+        saveMessage(chatRoomId, aiMessage, aiMessage.getSentAt());
         log.debug("send ai message -> end, message : {}", message);
     }
 
     // send message
-    private void saveMessage(Long chatRoomId, RedisMessageDTO message) throws JsonProcessingException {
+    // 마지막 메시지 조회, 날짜 구분 메시지 판단, ZADD, 읽음 watermark 갱신을 lua script 한 번으로 처리
+    private void saveMessage(Long chatRoomId, RedisMessageDTO message, LocalDateTime displayCompareTime) throws JsonProcessingException {
 
         log.debug("\n Send Save Message IN");
-        String saveMessageKey = "chat:room:" + chatRoomId;
-        long sentAtMilli = message.getSentAt().atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
-        redisTemplate.opsForZSet().add(saveMessageKey, objectMapper.writeValueAsString(message), sentAtMilli);
+        RedisMessageDTO dateChangeMessage = createDateChangeMessage(chatRoomId, message.getSentAt());
+
+        List<String> keys = List.of(
+                "chat:room:" + chatRoomId,
+                sessionService.getActiveMembersKey(chatRoomId),
+                "chat:" + message.getUuid() + ":readUsers",
+                "chat:" + dateChangeMessage.getUuid() + ":readUsers",
+                DIRTY_ROOMS_KEY,
+                readWatermarkService.getWatermarksKey(chatRoomId),
+                unreadCountService.getMessageSeqKey(chatRoomId)
+        );
+
+        List<String> args = new ArrayList<>(List.of(
+                objectMapper.writeValueAsString(message),
+                String.valueOf(toEpochMilli(message.getSentAt())),
+                message.getSenderType().name(),
+                message.getMemberId() != null ? String.valueOf(message.getMemberId()) : "",
+                displayCompareTime != null ? displayCompareTime.format(MINUTE_FORMATTER) : "",
+                objectMapper.writeValueAsString(dateChangeMessage),
+                String.valueOf(toEpochMilli(dateChangeMessage.getSentAt())),
+                message.getSentAt().toLocalDate().toString(),
+                "0", "", "", "",
+                LastMessageCacheService.INVALIDATE_CHANNEL,
+                lastMessageCacheService.getInvalidatePayload(chatRoomId),
+                String.valueOf(chatRoomId),
+                legacyReadReceiptWrite ? "1" : "0"
+        ));
+
+        // redis 가 비어 있을 때를 대비해 cache 에 있는 마지막 메시지를 fallback 으로 함께 전달
+        LastMessageCacheService.LastMessage cachedLastMessage = lastMessageCacheService.getIfPresent(chatRoomId);
+        if (cachedLastMessage != null) {
+            setLastMessageFallbackArgs(args, cachedLastMessage);
+        }
 
-        ReceiveMessageResponseDTO receiveMessageResponseDto = ReceiveMessageResponseDTO.fromRedisMessageDTO(message);
-        setReceiveMessageField(receiveMessageResponseDto);
+        List<?> result = redisTemplate.execute(saveChatMessageScript, keys, args.toArray());
+        if (result != null && "MISS".equals(result.getFirst())) {
+            log.debug("save message -> redis 가 비어 있어 mysql 마지막 메시지로 재시도");
+            setLastMessageFallbackArgs(args, lastMessageCacheService.get(chatRoomId));
+            result = redisTemplate.execute(saveChatMessageScript, keys, args.toArray());
+        }
 
-        String readMessageKey = "chat:" + receiveMessageResponseDto.getUuid() + ":readUsers";
-        if (message.getSenderType() == SenderType.MEMBER) {
-            log.debug("save message -> sender type = MEMBER 채팅만 read user 로직 실행");
-            saveReadUser(readMessageKey, String.valueOf(receiveMessageResponseDto.getSenderId()));
+        if (result == null || result.size() < 3) {
+            throw new GeneralException(ErrorInfo.INTERNAL_ERROR);
         }
 
+        message.setDisplayType(DisplayType.valueOf((String) result.get(0)));
+        lastMessageCacheService.put(chatRoomId, message);
+        boolean dateChangeInserted = ((Long) result.get(1)) == 1L;
+        long readCount = (Long) result.get(2);
+        log.debug("save message script -> display type : {}, date change inserted : {}, read members : {}", message.getDisplayType(), dateChangeInserted, readCount);
+
         int totalMemberCount = chatRoomMemberRepository.countByChatRoom_ChatRoomId(chatRoomId);
-        long readCount = sessionService.getActiveMembersCountInChatRoom(chatRoomId);
         int unreadCount = (int) (totalMemberCount - readCount);
+
+        if (dateChangeInserted) {
+            publishMessage(chatRoomId, dateChangeMessage, unreadCount);
+        }
+        publishMessage(chatRoomId, message, unreadCount);
+
+        log.debug("save message -> end");
+    }
+
+    private void setLastMessageFallbackArgs(List<String> args, LastMessageCacheService.LastMessage lastMessage) {
+        if (lastMessage == null || lastMessage.getSentAt() == null) {
+            args.set(8, "2");
+            return;
+        }
+
+        args.set(8, "1");
+        args.set(9, lastMessage.getSenderType().name());
+        args.set(10, lastMessage.getMemberId() != null ? String.valueOf(lastMessage.getMemberId()) : "");
+        args.set(11, lastMessage.getSentAt().format(MINUTE_FORMATTER));
+    }
+
+    private void publishMessage(Long chatRoomId, RedisMessageDTO message, int unreadCount) {
+
+        ReceiveMessageResponseDTO receiveMessageResponseDto = ReceiveMessageResponseDTO.fromRedisMessageDTO(message);
+        setReceiveMessageField(receiveMessageResponseDto);
         receiveMessageResponseDto.setUnreadCount(unreadCount);
 
-        messagingTemplate.convertAndSend("/topic/chat/active/" + chatRoomId, receiveMessageResponseDto);
+        stompEventPublisher.publish("/topic/chat/active/" + chatRoomId, receiveMessageResponseDto);
         log.debug("active member 에게 메시지 전송, destination : /topic/chat/active/" + chatRoomId);
 
         ReceiveMessageToConnectResponseDTO connectResponseDTO = ReceiveMessageToConnectResponseDTO.builder()
@@ -203,256 +320,249 @@ public class ChatService{
                 .sentAt(receiveMessageResponseDto.getSentAt())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/chat/connect/" + chatRoomId, connectResponseDTO);
+        stompEventPublisher.publish("/topic/chat/connect/" + chatRoomId, connectResponseDTO);
         log.debug("connect member 에게 메시지 전송, destination : /topic/chat/connect/" + chatRoomId);
-
-        Set<String> connectMembers = sessionService.getActiveChatRoomMembers(chatRoomId);
-        log.debug("\n read members 추가 시작");
-        for (String memberId : connectMembers) {
-            saveReadUser(readMessageKey, memberId);
-        }
-
-        log.debug("save message -> end");
     }
 
-    private void saveReadUser(String saveKey, String memberId) {
-        redisTemplate.opsForSet().add(saveKey, memberId);
-        log.debug("read members 추가, read member key : {}, member id : {}", saveKey, memberId);
-    }
+    // 날짜 구분 메시지는 같은 score 정렬을 피하기 위해 본 메시지보다 1ms 앞선 시각으로 저장 (당일 00시 이전으로는 넘어가지 않음)
+    private RedisMessageDTO createDateChangeMessage(Long chatRoomId, LocalDateTime currentMessageTime) {
 
-    private DisplayType setDisplayType(Long chatRoomId, Long senderId, SenderType senderType, LocalDateTime sentAt) throws JsonProcessingException {
-
-        ChatMessage lastMessage;
-        String key = "chat:room:" + chatRoomId;
-
-        Set<String> lastSet = redisTemplate.opsForZSet().range(key, -1, -1);
-        String lastJson = (lastSet != null && !lastSet.isEmpty())
-                ? lastSet.iterator().next()
-                : null;
-
-        if (lastJson != null) {
-            RedisMessageDTO redisMessage = objectMapper.readValue(lastJson, RedisMessageDTO.class);
-            lastMessage = translateRedisDtoIntoChatMessage(redisMessage);
-        } else {
-            lastMessage = chatMessageRepository.findTopByChatRoom_ChatRoomIdOrderBySentAtDesc(chatRoomId);
-        }
-
-        if (lastMessage != null) {
-            log.debug("\n\n set display type, lastMessage uuid : {}, message : {}", lastMessage.getUuid(), lastMessage.getMessage());
-
-            if (lastMessage.getSenderType() == SenderType.MEMBER) {
-                log.debug("member id가 존재할 떄, 즉, member type 메시지 일 때, member id : {}", lastMessage.getMember().getMemberId());
-                if (lastMessage.getMember().getMemberId().equals(senderId)) {
-                    log.debug("마지막 채팅의 member id, 지금 보낸 사람의 member id가 동일할 때");
-                    if (isSameMinute(lastMessage.getSentAt(), sentAt)) {
-                        log.debug("1 시간까지 같은가 ?");
-                        return DisplayType.SAME_TIME;
-                    } else {
-                        log.debug("1 시람만 같은가 ?");
-                        return DisplayType.SAME_SENDER;
-                    }
-                }
-            } else {
-                log.debug("이전 메시지가 system, ai, deleted 메시지 일 떄");
-                if (lastMessage.getSenderType().equals(senderType)) {
-                    log.debug("마지막 채팅의 sender type과 지금 메시지의 sender type이 동일할 때");
-                    if (isSameMinute(lastMessage.getSentAt(), sentAt)) {
-                        log.debug("2 시간까지 같은가 ?");
-                        return DisplayType.SAME_TIME;
-                    } else {
-                        log.debug("2 사람만 같은가 ?");
-                        return DisplayType.SAME_SENDER;
-                    }
-                }
-            }
+        LocalDate currentDate = currentMessageTime.toLocalDate();
+        LocalDateTime dateChangeTime = currentMessageTime.minusNanos(1_000_000);
+        if (dateChangeTime.isBefore(currentDate.atStartOfDay())) {
+            dateChangeTime = currentDate.atStartOfDay();
         }
 
-        return DisplayType.DEFAULT;
+        return RedisMessageDTO.builder()
+                .chatRoomId(chatRoomId)
+                .uuid(UUID.randomUUID().toString())
+                .memberId(null)
+                .message(currentDate.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")))
+                .isImage(false)
+                .isPrompt(false)
+                .sentAt(dateChangeTime)
+                .senderType(SenderType.SYSTEM)
+                .displayType(DisplayType.DEFAULT)
+                .build();
     }
 
-    private boolean isSameMinute(LocalDateTime time1, LocalDateTime time2) {
-        if (time1 == null || time2 == null) return false;
-        return time1.withSecond(0).withNano(0).equals(time2.withSecond(0).withNano(0));
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
     }
 
-    private void checkAndSendDateChangeMessage(Long chatRoomId, LocalDateTime currentMessageTime) throws JsonProcessingException {
-
-        log.info("\n Check And Send Data Change Message IN");
-        String key = "chat:room:" + chatRoomId;
+    private void setReceiveMessageField(ReceiveMessageResponseDTO messageDTO) {
+        setReceiveMessageFields(List.of(messageDTO));
+    }
 
-        LocalDate currentDate = currentMessageTime.toLocalDate();
-        LocalDate lastMessageDate = null;
+    // sender member 는 JOIN FETCH 한 번, presigned url 은 MGET 한 번으로 조회
+    private void setReceiveMessageFields(List<ReceiveMessageResponseDTO> messageDTOs) {
 
-        Set<String> lastMessages = redisTemplate.opsForZSet().range(key, -1, -1);
-        if (lastMessages != null && !lastMessages.isEmpty()) {
+        Set<Long> memberIds = messageDTOs.stream()
+                .filter(messageDTO -> messageDTO.getSenderType() == SenderType.MEMBER)
+                .map(ReceiveMessageResponseDTO::getSenderId)
+                .collect(Collectors.toSet());
 
-            String lastMessage = lastMessages.iterator().next();
-            RedisMessageDTO lastChatMessage = objectMapper.readValue(lastMessage, RedisMessageDTO.class);
-            lastMessageDate = lastChatMessage.getSentAt().toLocalDate();
-        }
+        Map<Long, Member> members = memberIds.isEmpty() ? Map.of()
+                : memberRepository.findAllWithUserByMemberIdIn(memberIds).stream()
+                        .collect(Collectors.toMap(Member::getMemberId, member -> member));
 
-        if (lastMessageDate == null) {
-            ChatMessage lastMessage = chatMessageRepository.findTopByChatRoom_ChatRoomIdOrderBySentAtDesc(chatRoomId);
-            if (lastMessage != null) {
-                lastMessageDate = lastMessage.getSentAt().toLocalDate();
+        Set<String> fileNames = new HashSet<>();
+        for (ReceiveMessageResponseDTO messageDTO : messageDTOs) {
+            if (messageDTO.getSenderType() == SenderType.MEMBER) {
+                Member member = members.get(messageDTO.getSenderId());
+                if (member == null) {
+                    throw new GeneralException(ErrorInfo.MEMBER_NOT_FOUND);
+                }
+                fileNames.add(member.getUser().getProfileImage());
+                if (messageDTO.isImage()) fileNames.add(messageDTO.getMessage());
+            } else if (messageDTO.getSenderType() == SenderType.AI || messageDTO.getSenderType() == SenderType.WITHDRAW) {
+                fileNames.add(messageDTO.getSenderType().getProfileImage());
             }
         }
+        Map<String, String> presignedUrls = imageService.getImageUrls(fileNames);
 
-        if (lastMessageDate == null || !lastMessageDate.equals(currentDate)) {
-            RedisMessageDTO systemMessage = RedisMessageDTO.builder()
-                    .chatRoomId(chatRoomId)
-                    .uuid(UUID.randomUUID().toString())
-                    .memberId(null)
-                    .message(currentDate.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")))
-                    .isImage(false)
-                    .isPrompt(false)
-                    .sentAt(currentMessageTime)
-                    .senderType(SenderType.SYSTEM)
-                    .displayType(DisplayType.DEFAULT)
-                    .build();
-
-            saveMessage(chatRoomId, systemMessage);
-        }
-
-        log.debug("check and send date change message -> end");
-    }
-
-    private void setReceiveMessageField(ReceiveMessageResponseDTO messageDTO) {
+        for (ReceiveMessageResponseDTO messageDTO : messageDTOs) {
 
-        if (messageDTO.getSenderType() == SenderType.MEMBER) {
-            Member member = memberRepository.findById(messageDTO.getSenderId())
-                    .orElseThrow(() -> new GeneralException(ErrorInfo.MEMBER_NOT_FOUND));
+            if (messageDTO.getSenderType() == SenderType.MEMBER) {
+                Member member = members.get(messageDTO.getSenderId());
 
-            messageDTO.setSenderName(member.getUser().getName());
-            messageDTO.setSenderProfileImage(s3Service.getPresignedUrl(member.getUser().getProfileImage()));
+                messageDTO.setSenderName(member.getUser().getName());
+                messageDTO.setSenderProfileImage(presignedUrls.get(member.getUser().getProfileImage()));
 
-            if (messageDTO.isImage()) messageDTO.setMessage(s3Service.getPresignedUrl(messageDTO.getMessage()));
+                if (messageDTO.isImage()) messageDTO.setMessage(presignedUrls.get(messageDTO.getMessage()));
 
-        } else if (messageDTO.getSenderType() == SenderType.AI) {
-            messageDTO.setSenderId(null);
-            messageDTO.setSenderName(SenderType.AI.getName());
-            messageDTO.setSenderProfileImage(s3Service.getPresignedUrl(SenderType.AI.getProfileImage()));
+            } else if (messageDTO.getSenderType() == SenderType.AI) {
+                messageDTO.setSenderId(null);
+                messageDTO.setSenderName(SenderType.AI.getName());
+                messageDTO.setSenderProfileImage(presignedUrls.get(SenderType.AI.getProfileImage()));
 
-        } else if (messageDTO.getSenderType() == SenderType.SYSTEM) {
-            messageDTO.setSenderId(null);
-            messageDTO.setSenderName(SenderType.SYSTEM.getName());
+            } else if (messageDTO.getSenderType() == SenderType.SYSTEM) {
+                messageDTO.setSenderId(null);
+                messageDTO.setSenderName(SenderType.SYSTEM.getName());
 
-        } else if (messageDTO.getSenderType() == SenderType.WITHDRAW) {
-            messageDTO.setSenderId(null);
-            messageDTO.setSenderName(SenderType.WITHDRAW.getName());
-            messageDTO.setSenderProfileImage(s3Service.getPresignedUrl(SenderType.WITHDRAW.getProfileImage()));
-
-        } else throw new GeneralException(ErrorInfo.INTERNAL_ERROR);
+            } else if (messageDTO.getSenderType() == SenderType.WITHDRAW) {
+                messageDTO.setSenderId(null);
+                messageDTO.setSenderName(SenderType.WITHDRAW.getName());
+                messageDTO.setSenderProfileImage(presignedUrls.get(SenderType.WITHDRAW.getProfileImage()));
 
+            } else throw new GeneralException(ErrorInfo.INTERNAL_ERROR);
+        }
     }
 
-    @Transactional
-    @Scheduled(fixedDelay = 300000)
+    // 5분 단위 일괄 flush 대신 짧은 주기로 일부 채팅방씩 watermark 이하 메시지만 옮김
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
     public void flushAllRooms() throws JsonProcessingException {
 
-        LocalDateTime now = LocalDateTime.now();
-        log.info("flush all rooms chatting -> start, time : {}", now);
-
-        Set<Long> activeRoomIds = getAllActiveRoomIds();
-        log.info("flush all rooms chatting -> db read success : data size : {}", activeRoomIds.size());
+        Set<Long> dirtyRoomIds = getAllActiveRoomIds();
+        if (dirtyRoomIds.isEmpty()) {
+            return;
+        }
+        log.info("flush dirty rooms chatting -> start, room count : {}", dirtyRoomIds.size());
 
-        for (Long roomId : activeRoomIds) {
-            log.info("flush all rooms chatting -> db read success : room id : {}", roomId);
-            String key = "chat:room:" + roomId;
-            flushMessagesToDb(key);
+        for (Long roomId : dirtyRoomIds) {
+            log.debug("flush dirty rooms chatting -> room id : {}", roomId);
+            flushMessagesToDb(roomId);
         }
     }
 
+    // 메시지 저장 script 가 관리하는 dirty room set 을 사용, 최초 1회만 SCAN 으로 기존 채팅방을 보정
     private Set<Long> getAllActiveRoomIds() {
 
-        Set<String> keys = redisTemplate.keys("chat:room:*");
-        if (Objects.requireNonNull(keys).isEmpty()) {
+        if (!dirtyRoomsSeeded) {
+            ScanOptions scanOptions = ScanOptions.scanOptions().match("chat:room:*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+                cursor.forEachRemaining(key -> redisTemplate.opsForSet().add(DIRTY_ROOMS_KEY, key.split(":")[2]));
+            }
+            dirtyRoomsSeeded = true;
+        }
+
+        Set<String> roomIds = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_ROOMS_KEY, FLUSH_ROOMS_PER_RUN);
+        if (roomIds == null || roomIds.isEmpty()) {
             return new HashSet<>();
         }
 
-        return keys.stream()
-                .map(key -> {
-                    String[] parts = key.split(":");
-                    return Long.parseLong(parts[2]);
-                })
+        return roomIds.stream()
+                .map(Long::parseLong)
                 .collect(Collectors.toSet());
     }
 
     // flush message to db
-    private void flushMessagesToDb(String key) throws JsonProcessingException {
+    // 1. watermark 결정 후 기록 -> 2. INSERT IGNORE -> 3. watermark 이하만 ZREMRANGEBYSCORE
+    // 2, 3 사이에 중단되면 기록된 watermark 범위를 그대로 다시 flush (uuid unique 로 중복 저장 없음)
+    private void flushMessagesToDb(Long chatRoomId) throws JsonProcessingException {
 
-        Set<String> messages = redisTemplate.opsForZSet().range(key, 0, -1);
-        if (messages == null || messages.isEmpty()) {
-            return;
-        }
+        String key = "chat:room:" + chatRoomId;
+        String roomIdStr = String.valueOf(chatRoomId);
+        ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
+
+        List<ZSetOperations.TypedTuple<String>> tuples;
+        double watermark;
 
-        List<ChatMessage> chatMessagesToSave = new ArrayList<>();
+        Object pendingWatermark = redisTemplate.opsForHash().get(WATERMARKS_KEY, roomIdStr);
+        if (pendingWatermark != null) {
+            watermark = Double.parseDouble((String) pendingWatermark);
+            log.info("flush chat message -> 이전 flush 미완료, watermark 재처리 : room id - {}, watermark - {}", chatRoomId, watermark);
+            tuples = toList(zSetOperations.rangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, watermark));
+        } else {
+            watermark = toEpochMilli(LocalDateTime.now().minusNanos(FLUSH_SETTLE_MILLIS * 1_000_000));
+            tuples = toList(zSetOperations.rangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, watermark, 0, FLUSH_BATCH_SIZE + 1));
+
+            if (tuples.size() > FLUSH_BATCH_SIZE) {
+                // 같은 score 의 메시지가 batch 경계에서 잘리지 않도록 넘친 메시지의 score 직전까지만 처리
+                double overflowScore = tuples.get(FLUSH_BATCH_SIZE).getScore();
+                watermark = overflowScore - 1;
+                double batchWatermark = watermark;
+                tuples = tuples.stream().filter(tuple -> tuple.getScore() <= batchWatermark).toList();
+
+                if (tuples.isEmpty()) {
+                    watermark = overflowScore;
+                    tuples = toList(zSetOperations.rangeByScoreWithScores(key, overflowScore, overflowScore));
+                }
+            }
 
-        for (String message : messages) {
-            RedisMessageDTO redisMessage = objectMapper.readValue(message, RedisMessageDTO.class);
-            ChatMessage chatMessage = translateRedisDtoIntoChatMessage(redisMessage);
-            chatMessagesToSave.add(chatMessage);
+            if (!tuples.isEmpty()) {
+                redisTemplate.opsForHash().put(WATERMARKS_KEY, roomIdStr, String.valueOf((long) watermark));
+            }
         }
 
-        List<ChatMessage> savedMessages = chatMessageRepository.saveAll(chatMessagesToSave);
-        log.debug("flush chat message to db -> success : data size - {}", savedMessages.size());
+        List<String> readUsersKeys = new ArrayList<>();
+        if (!tuples.isEmpty()) {
+            List<RedisMessageDTO> redisMessages = new ArrayList<>();
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                RedisMessageDTO redisMessage = objectMapper.readValue(tuple.getValue(), RedisMessageDTO.class);
+                redisMessages.add(redisMessage);
+                readUsersKeys.add("chat:" + redisMessage.getUuid() + ":readUsers");
+            }
 
-        List<ReadMembers> readMembersToSave = new ArrayList<>();
-        List<String> redisKeysToDelete = new ArrayList<>();
+            chatMessageJdbcRepository.batchInsertMessages(redisMessages);
+            log.debug("flush chat message to db -> success : data size - {}", redisMessages.size());
 
-        for (ChatMessage savedMessage : savedMessages) {
-            String uuid = savedMessage.getUuid();
-            if (uuid == null) {
-                log.debug("db flush 중 UUID 없는 이상한 Message 발견, message id - {}", savedMessage.getMessageId());
-                continue;
+            if (legacyReadReceiptWrite) {
+                flushReadMembersToDb(redisMessages);
             }
+        }
 
-            String readUsersKey = "chat:" + uuid + ":readUsers";
-            log.debug("db flush 중 read users key 값 확인 - {}", readUsersKey);
+        List<String> completeKeys = new ArrayList<>(List.of(key, DIRTY_ROOMS_KEY, WATERMARKS_KEY));
+        completeKeys.addAll(readUsersKeys);
 
-            if (savedMessage.getSenderType() == SenderType.SYSTEM) {
-                redisKeysToDelete.add(readUsersKey);
-                continue;
-            }
+        Long remaining = redisTemplate.execute(completeChatFlushScript, completeKeys,
+                tuples.isEmpty() ? "-inf" : String.valueOf((long) watermark), roomIdStr);
+        log.debug("flush chat data from redis -> success : room id - {}, flushed - {}, remaining - {}", chatRoomId, tuples.size(), remaining);
+    }
 
-            Set<String> readUserIds = redisTemplate.opsForSet().members(readUsersKey);
+    private void flushReadMembersToDb(List<RedisMessageDTO> redisMessages) {
 
-            if (readUserIds != null && !readUserIds.isEmpty()) {
-                for (String memberIdStr : readUserIds) {
-                    log.debug("db flush, read user flush 중 member id 확인 - {}", memberIdStr);
-                    Long memberId = Long.parseLong(memberIdStr);
-                    Member member = memberRepository.findById(memberId)
-                            .orElseThrow(() -> new GeneralException(ErrorInfo.MEMBER_NOT_FOUND));
+        List<RedisMessageDTO> readTargetMessages = redisMessages.stream()
+                .filter(redisMessage -> redisMessage.getSenderType() != SenderType.SYSTEM)
+                .toList();
 
-                    ReadMembers readMember = ReadMembers.builder()
-                            .chatMessage(savedMessage)
-                            .member(member)
-                            .build();
+        if (readTargetMessages.isEmpty()) {
+            return;
+        }
 
-                    readMembersToSave.add(readMember);
-                }
+        Map<String, Long> messageIds = chatMessageJdbcRepository.findMessageIdsByUuids(
+                readTargetMessages.stream().map(RedisMessageDTO::getUuid).toList());
+
+        List<Object> readUsersList = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RedisMessageDTO readTargetMessage : readTargetMessages) {
+                connection.setCommands().sMembers(("chat:" + readTargetMessage.getUuid() + ":readUsers").getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<long[]> readMembersToSave = new ArrayList<>();
+        for (int i = 0; i < readTargetMessages.size(); i++) {
+            Long messageId = messageIds.get(readTargetMessages.get(i).getUuid());
+            if (messageId == null) {
+                log.debug("db flush 중 저장되지 않은 Message 발견, uuid - {}", readTargetMessages.get(i).getUuid());
+                continue;
+            }
+
+            @SuppressWarnings("unchecked")
+            Set<String> readUserIds = (Set<String>) readUsersList.get(i);
+            if (readUserIds == null) continue;
+
+            for (String memberIdStr : readUserIds) {
+                readMembersToSave.add(new long[]{messageId, Long.parseLong(memberIdStr)});
             }
-            redisKeysToDelete.add(readUsersKey);
         }
 
-        readMembersRepository.saveAll(readMembersToSave);
+        chatMessageJdbcRepository.batchInsertReadMembers(readMembersToSave);
         log.debug("flush message read members to db -> success : data size - {}", readMembersToSave.size());
+    }
 
-        redisKeysToDelete.add(key);
-        redisTemplate.delete(redisKeysToDelete);
-        log.debug("flush chat data from redis -> success : deleted keys - {}", redisKeysToDelete);
+    private List<ZSetOperations.TypedTuple<String>> toList(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        return tuples != null ? new ArrayList<>(tuples) : new ArrayList<>();
     }
 
+    // chat room, member 는 조회 없이 reference 로만 연결 (호출 측에서 채팅방 검증 완료)
     public ChatMessage translateRedisDtoIntoChatMessage(RedisMessageDTO message) {
 
-        ChatRoom chatRoom = chatValidator.validateChatRoom(message.getChatRoomId());
-
         return ChatMessage.builder()
                 .uuid(message.getUuid())
-                .chatRoom(chatRoom)
+                .chatRoom(chatRoomRepository.getReferenceById(message.getChatRoomId()))
                 .member(message.getMemberId() != null
-                        ? memberRepository.findById(message.getMemberId()).orElseThrow(
-                                () -> new GeneralException(ErrorInfo.MEMBER_NOT_FOUND))
+                        ? memberRepository.getReferenceById(message.getMemberId())
                         : null)
                 .message(message.getMessage())
                 .isImage(message.getIsImage())
@@ -465,38 +575,40 @@ public class ChatService{
                 .build();
     }
 
-    private ReceiveMessageResponseDTO toReceiveMessageResponseDTO(ChatMessage chatMessage) {
-        ReceiveMessageResponseDTO messageDTO = ReceiveMessageResponseDTO.fromChatMessageEntity(chatMessage);
-        setReceiveMessageField(messageDTO);
+    // 채팅 내역 한 페이지를 한 번에 변환
+    // 읽음 수는 채팅방 watermark 를 한 번 조회해 메시지 score 기준으로 계산 (mysql / redis 메시지 구분 없음)
+    private List<ReceiveMessageResponseDTO> toReceiveMessageResponseDTOs(Long chatRoomId, List<ChatMessage> chatMessages) {
 
-        if (messageDTO.getUuid() == null) {
-            throw new GeneralException(ErrorInfo.BAD_REQUEST);  // 나중에 에러 타입 수정
+        if (chatMessages.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey("chat:" + messageDTO.getUuid() + ":readUsers"))) {
-            int totalMembersCount = chatRoomMemberRepository.countByChatRoom_ChatRoomId(chatMessage.getChatRoom().getChatRoomId());
-            Set<String> readUsers = redisTemplate.opsForSet().members("chat:" + messageDTO.getUuid() + ":readUsers");
-            long readCount = readUsers != null ? readUsers.size() : 0;
-            int unreadMembersCount = (int) (totalMembersCount - readCount);
-
-            messageDTO.setUnreadCount(unreadMembersCount);
+        List<ReceiveMessageResponseDTO> messageDTOs = new ArrayList<>();
+        for (ChatMessage chatMessage : chatMessages) {
+            ReceiveMessageResponseDTO messageDTO = ReceiveMessageResponseDTO.fromChatMessageEntity(chatMessage);
+            if (messageDTO.getUuid() == null) {
+                throw new GeneralException(ErrorInfo.BAD_REQUEST);  // 나중에 에러 타입 수정
+            }
+            messageDTOs.add(messageDTO);
         }
-        else {
-            int totalMembersCount = chatRoomMemberRepository.countByChatRoom_ChatRoomId(chatMessage.getChatRoom().getChatRoomId());
-            Long readCount = readMembersRepository.countReadMembersByMessageId(chatMessage.getMessageId());
-            int unreadMembersCount = (int) (totalMembersCount - readCount);
+        setReceiveMessageFields(messageDTOs);
+
+        long[] watermarks = readWatermarkService.getWatermarkScores(chatRoomId);
+        int totalMembersCount = chatRoomMemberRepository.countByChatRoom_ChatRoomId(chatRoomId);
 
-            messageDTO.setUnreadCount(unreadMembersCount);
+        for (int i = 0; i < chatMessages.size(); i++) {
+            long readCount = ReadWatermarkService.countReadMembers(watermarks, toEpochMilli(chatMessages.get(i).getSentAt()));
+            messageDTOs.get(i).setUnreadCount((int) (totalMembersCount - readCount));
         }
 
-        return messageDTO;
+        return messageDTOs;
     }
 
     @Transactional
-    public Slice<ReceiveMessageResponseDTO> getChatMessages(Long chatRoomId, GetPageable pageable) throws JsonProcessingException {
+    public Slice<ReceiveMessageResponseDTO> getChatMessages(Long userId, Long chatRoomId, GetPageable pageable) throws JsonProcessingException {
 
         ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
-        chatValidator.validateChatRoom(chatRoomId);
+        validateChatRoomReader(userId, chatRoomId);
 
         String redisKey = "chat:room:" + chatRoomId;
         int offset = pageable.getPage() * pageable.getSize();
@@ -559,8 +671,7 @@ public class ChatService{
 
         List<ReceiveMessageResponseDTO> pagedMessages = new ArrayList<>();
         if (!combinedMessages.isEmpty()) {
-            pagedMessages = combinedMessages.subList(0, end).stream()
-                    .map(this::toReceiveMessageResponseDTO)
+            pagedMessages = toReceiveMessageResponseDTOs(chatRoomId, combinedMessages.subList(0, end)).stream()
                     .sorted(Comparator.comparing(ReceiveMessageResponseDTO::getSentAt))
                     .toList();
         }
@@ -574,39 +685,102 @@ public class ChatService{
         return new SliceImpl<>(pagedMessages, PageRequest.of(pageable.getPage(), pageable.getSize()), hasNext);
     }
 
-    public ChatMessage getLatestMessage(Long chatRoomId) throws JsonProcessingException {
+    // 채팅 내역은 프로젝트의 활성 멤버이면서 채팅방에 참여 중인 유저만 조회 가능
+    private void validateChatRoomReader(Long userId, Long chatRoomId) {
+
+        ChatRoom chatRoom = chatValidator.validateChatRoom(chatRoomId);
+        Member member = memberValidator.validateActiveMemberInProject(userId, chatRoom.getProject().getProjectId());
+        memberValidator.isMemberAlreadyInChatRoom(chatRoom, member, true);
+    }
+
+    // (sentAt, uuid) keyset 기반 채팅 내역 조회, redis 와 mysql 을 같은 cursor 로 seek 한 뒤 uuid 기준으로 중복 제거
+    @Transactional
+    public ChatCursorResponseDTO getChatMessagesByCursor(Long userId, Long chatRoomId, GetChatCursorRequestDTO request) throws JsonProcessingException {
+
+        validateChatRoomReader(userId, chatRoomId);
+
+        int size = request.getSize() > 0 ? Math.min(request.getSize(), MAX_CURSOR_PAGE_SIZE) : DEFAULT_CURSOR_PAGE_SIZE;
+        int fetchLimit = size + 1;
+        ChatMessage cursor = decodeCursor(request.getCursor());
 
-        log.debug("\n get latest mesaage IN");
         String redisKey = "chat:room:" + chatRoomId;
         ZSetOperations<String, String> zSetOperations = redisTemplate.opsForZSet();
 
-        Set<String> latestMessageJson = zSetOperations.reverseRange(redisKey, 0, 0);
+        List<String> redisMessagesJson = new ArrayList<>();
+        if (cursor == null) {
+            Set<String> latest = zSetOperations.reverseRange(redisKey, 0, fetchLimit - 1);
+            if (latest != null) redisMessagesJson.addAll(latest);
+        } else {
+            long cursorScore = toEpochMilli(cursor.getSentAt());
+            Set<String> sameScore = zSetOperations.rangeByScore(redisKey, cursorScore, cursorScore);
+            Set<String> older = zSetOperations.reverseRangeByScore(redisKey, Double.NEGATIVE_INFINITY, cursorScore - 1, 0, fetchLimit);
+            if (sameScore != null) redisMessagesJson.addAll(sameScore);
+            if (older != null) redisMessagesJson.addAll(older);
+        }
 
-        if (latestMessageJson != null && !latestMessageJson.isEmpty()) {
-            String json = latestMessageJson.stream().findFirst().get();
-            RedisMessageDTO redisMessage = objectMapper.readValue(json, RedisMessageDTO.class);
-            log.debug("마지막 메시지 확인, uuid : {}, message : {}", redisMessage.getUuid(), redisMessage.getMessage());
-            return translateRedisDtoIntoChatMessage(redisMessage);
+        Map<String, ChatMessage> redisMessages = new LinkedHashMap<>();
+        for (String json : redisMessagesJson) {
+            ChatMessage chatMessage = translateRedisDtoIntoChatMessage(objectMapper.readValue(json, RedisMessageDTO.class));
+            if (cursor == null || ChatCursor.isOlderThan(chatMessage, cursor)) {
+                redisMessages.put(chatMessage.getUuid(), chatMessage);
+            }
+        }
+        log.debug("get chat messages by cursor -> redis 에서 가져온 메시지 개수 : {}", redisMessages.size());
+
+        // redis 에 남은 메시지는 mysql 보다 최신이므로 redis 만으로 한 페이지가 채워지면 mysql 조회 생략
+        List<ChatMessage> dbMessages = List.of();
+        if (redisMessages.size() < fetchLimit) {
+            dbMessages = (cursor == null)
+                    ? chatMessageRepository.findLatestMessagesByChatRoomId(chatRoomId, fetchLimit)
+                    : chatMessageRepository.findMessagesByChatRoomIdBeforeCursor(chatRoomId, cursor.getSentAt(), cursor.getUuid(), fetchLimit);
+            log.debug("get chat messages by cursor -> mysql 에서 가져온 메시지 개수 : {}", dbMessages.size());
         }
-        else {
-            log.debug("redis에 아무것도 없어서 mysql에서 가져옴");
-            return chatMessageRepository.findTopByChatRoom_ChatRoomIdOrderBySentAtDesc(chatRoomId);
+
+        List<ChatMessage> sortedMessages = ChatCursor.mergeNewestFirst(redisMessages.values(), dbMessages);
+
+        boolean hasNext = sortedMessages.size() > size;
+        List<ChatMessage> pageMessages = sortedMessages.subList(0, Math.min(size, sortedMessages.size()));
+        String nextCursor = hasNext ? ChatCursor.encode(pageMessages.getLast()) : null;
+
+        List<ReceiveMessageResponseDTO> messageList = toReceiveMessageResponseDTOs(chatRoomId, pageMessages).stream()
+                .sorted(Comparator.comparing(ReceiveMessageResponseDTO::getSentAt))
+                .toList();
+
+        return ChatCursorResponseDTO.builder()
+                .messageList(messageList)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private ChatMessage decodeCursor(String cursor) {
+        try {
+            return ChatCursor.decode(cursor);
+        } catch (GeneralException e) {
+            log.warn("잘못된 채팅 cursor : {}", cursor);
+            throw e;
         }
     }
 
+    public LastMessageCacheService.LastMessage getLatestMessage(Long chatRoomId) throws JsonProcessingException {
+
+        log.debug("\n get latest mesaage IN");
+        return lastMessageCacheService.get(chatRoomId);
+    }
+
     public void enterChatRoomEvent(Long chatRoomId, Long userId) {
 
         log.debug("\n enter chat room event IN");
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
+        Long memberId = chatValidator.validateMemberIdInChatRoomSession(chatRoomId, userId);
         Instant lastReadAt = sessionService.getLastReadAt(chatRoomId, userId);
         log.debug("Enter Chat Room Event -> {}", lastReadAt);
 
         EnterChatRoomResponseDTO enterChatRoomDTO = EnterChatRoomResponseDTO.builder()
-                .memberId(member.getMemberId())
+                .memberId(memberId)
                 .lastReadTime(lastReadAt)
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/chat/active/" + chatRoomId, enterChatRoomDTO);
+        stompEventPublisher.publish("/topic/chat/active/" + chatRoomId, enterChatRoomDTO);
         log.debug("enter chat room event -> end");
     }
 
@@ -615,57 +789,50 @@ public class ChatService{
         Instant lastReadAt = sessionService.getLastReadAt(chatRoomId, userId);
         Instant startInstant = (lastReadAt == null) ? Instant.EPOCH : lastReadAt;
 
-        updateReadRedisMessageUser(chatRoomId, userId, startInstant);
-        updateReadDBMessageUser(chatRoomId, userId, startInstant);
+        if (legacyReadReceiptWrite) {
+            Long memberId = chatValidator.validateMemberIdInChatRoomSession(chatRoomId, userId);
+            log.debug("process chat room entry -> member validator -> end");
+
+            updateReadRedisMessageUser(chatRoomId, memberId, startInstant);
+            updateReadDBMessageUser(chatRoomId, memberId, startInstant);
+        }
 
         sessionService.saveLastReadAt(chatRoomId, userId, Instant.now());
     }
 
-    private void updateReadRedisMessageUser(Long chatRoomId, Long userId, Instant lastReadAt) throws JsonProcessingException {
+    // 읽지 않은 redis 메시지 전체를 pipeline 한 번으로 SADD
+    private void updateReadRedisMessageUser(Long chatRoomId, Long memberId, Instant lastReadAt) throws JsonProcessingException {
         String messageKey = "chat:room:" + chatRoomId;
         long minScore = lastReadAt.toEpochMilli();
 
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        log.debug("update read redis message user -> member validator -> end");
-
         Set<String> redisMessages = redisTemplate.opsForZSet().rangeByScore(messageKey, minScore, Double.POSITIVE_INFINITY);
         if (redisMessages == null || redisMessages.isEmpty()) {
             log.debug("update read reids message user -> redis empty !!!");
             return;
         }
 
+        List<byte[]> readUsersKeys = new ArrayList<>();
         for (String redisMessage : redisMessages) {
             RedisMessageDTO messageDTO = objectMapper.readValue(redisMessage, RedisMessageDTO.class);
-            String readUsersKey = "chat:" + messageDTO.getUuid() + ":readUsers";
-
-            log.debug("update read redis message user -> message uuid : {}, message : {}, readUsersKey : {}", messageDTO.getUuid(), messageDTO.getMessage(), readUsersKey);
-            redisTemplate.opsForSet().add(readUsersKey, String.valueOf(member.getMemberId()));
-            log.debug("update read redis message user -> SUCCESS");
+            readUsersKeys.add(("chat:" + messageDTO.getUuid() + ":readUsers").getBytes(StandardCharsets.UTF_8));
         }
+
+        byte[] memberIdBytes = String.valueOf(memberId).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] readUsersKey : readUsersKeys) {
+                connection.setCommands().sAdd(readUsersKey, memberIdBytes);
+            }
+            return null;
+        });
+        log.debug("update read redis message user -> SUCCESS, member id - {}, data size - {}", memberId, readUsersKeys.size());
     }
 
-    private void updateReadDBMessageUser(Long chatRoomId, Long userId, Instant startInstant) {
+    // 마지막으로 읽은 시각 이후의 mysql 메시지를 INSERT IGNORE ... SELECT 한 번으로 읽음 처리
+    private void updateReadDBMessageUser(Long chatRoomId, Long memberId, Instant startInstant) {
         LocalDateTime lastReadLocalDateTime = LocalDateTime.ofInstant(startInstant, ZoneId.systemDefault());
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        log.debug("update read db message user -> member validator -> end");
 
-        List<ChatMessage> mysqlMessages = chatMessageRepository.findChatMessageByChatRoom_ChatRoomIdAndSentAtAfter(chatRoomId, lastReadLocalDateTime);
-        if (mysqlMessages == null || mysqlMessages.isEmpty()) {
-            log.debug("update read db message user -> mysql empty !!!");
-            return;
-        }
-
-        for (ChatMessage chatMessage : mysqlMessages) {
-            log.debug("update read db message user -> message id : {}, message : {}", chatMessage.getMessageId(), chatMessage.getMessage());
-            if (chatMessage.getSenderType() == SenderType.SYSTEM) continue;
-
-            int returnValue = readMembersRepository.insertIgnore(chatMessage.getMessageId(), member.getMemberId());
-            if (returnValue == 1) {
-                log.debug("update read db message user -> SUCCESS, message id - {}, member id - {}", chatMessage.getMessageId(), member.getMemberId());
-            } else {
-                log.debug("update read db message user -> ERROR : 중복 값 존재, message id - {}, member id - {}", chatMessage.getMessageId(), member.getMemberId());
-            }
-        }
+        int insertedCount = readMembersRepository.insertIgnoreAllAfter(chatRoomId, memberId, lastReadLocalDateTime);
+        log.debug("update read db message user -> SUCCESS, member id - {}, inserted - {}", memberId, insertedCount);
     }
 
 }
@@ -9,7 +9,6 @@ import com.example.weup.entity.File;
 import com.example.weup.repository.FileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -20,10 +19,9 @@ public class FileService {
     private final S3Service s3Service;
     private final FileRepository fileRepository;
 
-    public void saveFilesForBoard(Board board, List<MultipartFile> files) {
-        List<FileFullResponseDTO> fileFullResponseDTOS = s3Service.uploadFiles(files);
-
-        List<File> fileEntities = fileFullResponseDTOS.stream()
+    // 업로드는 트랜잭션 밖에서 끝내고, 여기서는 File row 만 저장
+    public void saveFilesForBoard(Board board, List<FileFullResponseDTO> uploadedFiles) {
+        List<File> fileEntities = uploadedFiles.stream()
                 .map(dto -> File.builder()
                         .board(board)
                         .fileName(dto.getOriginalFileName())
@@ -54,25 +52,10 @@ public class FileService {
             if (!file.getBoard().equals(board)) {
                 throw new GeneralException(ErrorInfo.FORBIDDEN);
             }
-            s3Service.deleteFile(file.getStoredName());
         }
 
         fileRepository.deleteAll(removeFiles);
+        s3Service.deleteFilesAfterCommit(removeFiles.stream().map(File::getStoredName).toList());
         fileRepository.findAllByBoard(board);
     }
-
-    public void addFiles(Board board, List<MultipartFile> files) {
-        List<FileFullResponseDTO> uploadedFiles = s3Service.uploadFiles(files);
-        List<File> fileEntities = uploadedFiles.stream()
-                .map(dto -> File.builder()
-                        .board(board)
-                        .fileName(dto.getOriginalFileName())
-                        .storedName(dto.getStoredFileName())
-                        .fileSize(dto.getFileSize())
-                        .fileType(dto.getFileType())
-                        .build())
-                .toList();
-
-        fileRepository.saveAll(fileEntities);
-    }
 }
@@ -0,0 +1,182 @@
+package com.example.weup.service;
+
+import com.example.weup.GeneralException;
+import com.example.weup.constant.ErrorInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 프로필 / 프로젝트 이미지
+// 내용의 SHA-256 을 key (images/{hash}.{ext}) 로 저장해서 같은 key 는 항상 같은 내용 -> 고정 url 로 영구 cache 가능
+// content-addressed key 는 presign 없이 /images/{hash}.{ext} 로 내려주고, 이전 방식으로 저장된 key 는 기존처럼 presigned url 사용
+@Slf4j
+@Service
+public class ImageService {
+
+    public static final String IMAGE_KEY_PREFIX = "images/";
+
+    public static final String IMAGE_PATH = "/images/";
+
+    private static final Pattern IMAGE_FILE_NAME = Pattern.compile("[0-9a-f]{64}\\.(png|jpg|gif|webp)");
+
+    private final ImageStorage imageStorage;
+
+    private final S3Service s3Service;
+
+    private final String publicBaseUrl;
+
+    public ImageService(ImageStorage imageStorage, S3Service s3Service,
+                        @Value("${image.public-base-url:}") String publicBaseUrl) {
+        this.imageStorage = imageStorage;
+        this.s3Service = s3Service;
+        this.publicBaseUrl = publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+    }
+
+    // 이미지 업로드, 같은 내용이 이미 있으면 업로드하지 않고 기존 key 반환
+    // /images 는 API 와 같은 origin 에서 인증 없이 내려가므로 client 가 보낸 content type / 파일 이름은 믿지 않음
+    // 내용의 magic bytes 로 허용된 raster 형식인지 확인하고, 확장자와 content type 도 확인된 형식에서 정함
+    public String uploadImage(MultipartFile file) throws IOException {
+        byte[] bytes = file.getBytes();
+        ImageType imageType = ImageType.detect(bytes);
+        if (imageType == null) {
+            throw new GeneralException(ErrorInfo.INVALID_IMAGE_TYPE);
+        }
+
+        String key = IMAGE_KEY_PREFIX + sha256(bytes) + "." + imageType.extension;
+
+        if (!imageStorage.exists(key)) {
+            imageStorage.put(key, bytes, imageType.contentType);
+            log.info("upload image -> success : key - {}, size - {}", key, bytes.length);
+        }
+
+        return key;
+    }
+
+    // content-addressed key 는 여러 사용자 / 프로젝트가 공유할 수 있으므로 삭제하지 않음
+    public boolean isContentAddressed(String key) {
+        return key != null && key.startsWith(IMAGE_KEY_PREFIX)
+                && IMAGE_FILE_NAME.matcher(key.substring(IMAGE_KEY_PREFIX.length())).matches();
+    }
+
+    public String getImageUrl(String key) {
+        if (isContentAddressed(key)) {
+            return toPublicUrl(key);
+        }
+        return s3Service.getPresignedUrl(key);
+    }
+
+    // content-addressed key 는 고정 url, 나머지만 모아서 presign
+    public Map<String, String> getImageUrls(Collection<String> keys) {
+        Map<String, String> imageUrls = new HashMap<>();
+        List<String> legacyKeys = new ArrayList<>();
+
+        for (String key : keys) {
+            if (isContentAddressed(key)) {
+                imageUrls.put(key, toPublicUrl(key));
+            } else {
+                legacyKeys.add(key);
+            }
+        }
+
+        if (!legacyKeys.isEmpty()) {
+            imageUrls.putAll(s3Service.getPresignedUrls(legacyKeys));
+        }
+        return imageUrls;
+    }
+
+    // /images/{fileName} 조회
+    public ImageStorage.StoredImage loadImage(String fileName) {
+        if (!IMAGE_FILE_NAME.matcher(fileName).matches()) {
+            throw new GeneralException(ErrorInfo.IMAGE_NOT_FOUND);
+        }
+
+        ImageStorage.StoredImage image = imageStorage.get(IMAGE_KEY_PREFIX + fileName);
+        if (image == null) {
+            throw new GeneralException(ErrorInfo.IMAGE_NOT_FOUND);
+        }
+
+        // 저장소의 content type (로컬 저장소는 확장자로 추측) 대신 허용된 형식의 content type 으로 내려줌
+        String contentType = ImageType.fromExtension(fileName.substring(fileName.lastIndexOf('.') + 1)).contentType;
+        return new ImageStorage.StoredImage(image.getContent(), image.getContentLength(), contentType);
+    }
+
+    private String toPublicUrl(String key) {
+        return publicBaseUrl + IMAGE_PATH + key.substring(IMAGE_KEY_PREFIX.length());
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 업로드를 허용하는 raster 이미지 형식, svg 처럼 script 를 담을 수 있는 형식은 허용하지 않음
+    private enum ImageType {
+
+        PNG("image/png", "png"),
+        JPEG("image/jpeg", "jpg"),
+        GIF("image/gif", "gif"),
+        WEBP("image/webp", "webp");
+
+        private final String contentType;
+
+        private final String extension;
+
+        ImageType(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        // 인식하지 못하면 null
+        private static ImageType detect(byte[] bytes) {
+            if (startsWith(bytes, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+                return PNG;
+            }
+            if (startsWith(bytes, 0, 0xFF, 0xD8, 0xFF)) {
+                return JPEG;
+            }
+            if (startsWith(bytes, 0, 'G', 'I', 'F', '8', '7', 'a') || startsWith(bytes, 0, 'G', 'I', 'F', '8', '9', 'a')) {
+                return GIF;
+            }
+            if (startsWith(bytes, 0, 'R', 'I', 'F', 'F') && startsWith(bytes, 8, 'W', 'E', 'B', 'P')) {
+                return WEBP;
+            }
+            return null;
+        }
+
+        private static ImageType fromExtension(String extension) {
+            for (ImageType imageType : values()) {
+                if (imageType.extension.equals(extension)) {
+                    return imageType;
+                }
+            }
+            throw new GeneralException(ErrorInfo.IMAGE_NOT_FOUND);
+        }
+
+        private static boolean startsWith(byte[] bytes, int offset, int... signature) {
+            if (bytes.length < offset + signature.length) {
+                return false;
+            }
+            for (int i = 0; i < signature.length; i++) {
+                if ((bytes[offset + i] & 0xFF) != signature[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.weup.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.InputStream;
+
+// content-addressed 이미지 저장소 (image.storage=s3 : S3 bucket, image.storage=local : 로컬 파일시스템)
+public interface ImageStorage {
+
+    boolean exists(String key);
+
+    void put(String key, byte[] bytes, String contentType);
+
+    // 없으면 null
+    StoredImage get(String key);
+
+    @Getter
+    @AllArgsConstructor
+    class StoredImage {
+
+        private final InputStream content;
+
+        private final long contentLength;
+
+        private final String contentType;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.weup.service;
+
+import com.example.weup.constant.SenderType;
+import com.example.weup.dto.response.RedisMessageDTO;
+import com.example.weup.entity.ChatMessage;
+import com.example.weup.repository.ChatMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 채팅방별 마지막 메시지 in-process cache
+// 다른 노드에서 메시지가 저장되면 INVALIDATE_CHANNEL 로 "nodeId:chatRoomId" 가 발행되어 해당 채팅방 entry 를 제거한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LastMessageCacheService implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "chat:lastMessage:invalidate";
+
+    private static final int MAX_CACHED_ROOMS = 10_000;
+
+    private static final LastMessage EMPTY = new LastMessage(null, null, null, null);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Long, LastMessage> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, LastMessage> eldest) {
+                    return size() > MAX_CACHED_ROOMS;
+                }
+            });
+
+    // cache 에 있는 경우만 반환, 없으면 null
+    public LastMessage getIfPresent(Long chatRoomId) {
+        return cache.get(chatRoomId);
+    }
+
+    // cache miss 시 redis -> mysql 순으로 조회 후 저장, 메시지가 없으면 null
+    public LastMessage get(Long chatRoomId) throws JsonProcessingException {
+
+        LastMessage cached = cache.get(chatRoomId);
+        if (cached != null) {
+            return cached == EMPTY ? null : cached;
+        }
+
+        log.debug("last message cache miss, chat room id : {}", chatRoomId);
+        LastMessage lastMessage = null;
+
+        Set<String> latestMessageJson = redisTemplate.opsForZSet().reverseRange("chat:room:" + chatRoomId, 0, 0);
+        if (latestMessageJson != null && !latestMessageJson.isEmpty()) {
+            lastMessage = LastMessage.from(objectMapper.readValue(latestMessageJson.iterator().next(), RedisMessageDTO.class));
+        } else {
+            ChatMessage chatMessage = chatMessageRepository.findTopByChatRoom_ChatRoomIdOrderBySentAtDesc(chatRoomId);
+            if (chatMessage != null) {
+                lastMessage = LastMessage.from(chatMessage);
+            }
+        }
+
+        cache.put(chatRoomId, lastMessage != null ? lastMessage : EMPTY);
+        return lastMessage;
+    }
+
+    public void put(Long chatRoomId, RedisMessageDTO message) {
+        cache.put(chatRoomId, LastMessage.from(message));
+    }
+
+    public void evict(Long chatRoomId) {
+        cache.remove(chatRoomId);
+    }
+
+    // 메시지 저장 script 에서 발행할 invalidate payload
+    public String getInvalidatePayload(Long chatRoomId) {
+        return nodeId + ":" + chatRoomId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.lastIndexOf(':');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+
+        Long chatRoomId = Long.valueOf(payload.substring(separator + 1));
+        evict(chatRoomId);
+        log.debug("last message cache invalidated by other node, chat room id : {}", chatRoomId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LastMessage {
+
+        private final SenderType senderType;
+
+        private final Long memberId;
+
+        private final String message;
+
+        private final LocalDateTime sentAt;
+
+        public static LastMessage from(RedisMessageDTO message) {
+            return new LastMessage(message.getSenderType(), message.getMemberId(), message.getMessage(), message.getSentAt());
+        }
+
+        public static LastMessage from(ChatMessage message) {
+            return new LastMessage(message.getSenderType(),
+                    message.getMember() != null ? message.getMember().getMemberId() : null,
+                    message.getMessage(), message.getSentAt());
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class LiveKitService {
                 .orElseThrow(() -> new GeneralException(ErrorInfo.USER_NOT_FOUND));
 
         Project project = projectValidator.validateActiveProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         AccessToken token = new AccessToken(apiKey, apiSecret);
         token.setName(user.getName());
@@ -56,7 +56,7 @@ public class LiveKitService {
     @Transactional
     public void enterRoom(Long projectId, Long userId) {
 
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         String key = "meeting:" + projectId + ":users";
         log.info("enter meeting room -> enter : user id - {}, room name - {}", userId, projectId);
@@ -67,7 +67,7 @@ public class LiveKitService {
     public void leaveRoom(Long projectId, Long userId) {
 
         projectValidator.validateActiveProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         String key = "meeting:" + projectId + ":users";
         log.info("leave meeting room -> enter : user id - {}, room name - {}", userId, projectId);
@@ -77,7 +77,7 @@ public class LiveKitService {
     public Long getParticipantCount(Long projectId, Long userId) {
 
         projectValidator.validateActiveProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         String key = "meeting:" + projectId + ":users";
         log.info("get participant count -> db read success : room name - {}", projectId);
@@ -0,0 +1,75 @@
+package com.example.weup.service;
+
+import com.example.weup.GeneralException;
+import com.example.weup.constant.ErrorInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// 로컬 파일시스템 이미지 저장소, S3 없이 개발 / 테스트할 때 bucket 대신 사용
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "image.storage", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path rootDir;
+
+    public LocalImageStorage(@Value("${image.local.root-dir:./local-images}") String rootDir) {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        log.info("local image storage -> root dir : {}", this.rootDir);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("local image storage put -> fail : key - {}, error - {}", key, e.getMessage());
+            throw new GeneralException(ErrorInfo.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public StoredImage get(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try {
+            String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            return new StoredImage(Files.newInputStream(path), Files.size(path), contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new GeneralException(ErrorInfo.BAD_REQUEST);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.weup.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// /topic/member/{projectId} 변경 이벤트 묶음 전송
+// commit 이후 COALESCE_WINDOW_MILLIS 동안 들어온 같은 프로젝트 / 같은 type 의 이벤트를 하나로 합쳐서
+// 변경된 member id / role id 목록과 프로젝트별 version 을 함께 보낸다. (역할 N 개 변경 -> client 재조회 1 번)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberEventCoalescer {
+
+    public static final String LIST_CHANGED = "LIST_CHANGED";
+
+    public static final String ROLE_CHANGED = "ROLE_CHANGED";
+
+    private static final long COALESCE_WINDOW_MILLIS = 300;
+
+    private static final String EVENT_VERSION_KEY = "project:%s:memberEventVersion";
+
+    private final StompEventPublisher stompEventPublisher;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final TaskScheduler taskScheduler;
+
+    // "projectId:type" -> 전송 대기 중인 이벤트
+    private final Map<String, PendingEvent> pendingEvents = new ConcurrentHashMap<>();
+
+    // 멤버 초대 / 삭제 / 리더 위임 / 역할 부여
+    public void memberChanged(Long projectId, String editedBy, Long requestMemberId, Long changedMemberId) {
+        afterCommit(() -> add(projectId, LIST_CHANGED, editedBy, requestMemberId, changedMemberId, null));
+    }
+
+    // 역할 생성 / 수정 / 삭제
+    public void roleChanged(Long projectId, String editedBy, Long requestMemberId, Long changedRoleId) {
+        afterCommit(() -> add(projectId, ROLE_CHANGED, editedBy, requestMemberId, null, changedRoleId));
+    }
+
+    private void afterCommit(Runnable task) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+
+        task.run();
+    }
+
+    private void add(Long projectId, String type, String editedBy, Long requestMemberId, Long changedMemberId, Long changedRoleId) {
+
+        String key = projectId + ":" + type;
+        boolean[] created = new boolean[1];
+
+        pendingEvents.compute(key, (k, pending) -> {
+            if (pending == null) {
+                pending = new PendingEvent(projectId, type);
+                created[0] = true;
+            }
+            pending.merge(editedBy, requestMemberId, changedMemberId, changedRoleId);
+            return pending;
+        });
+
+        // window 의 첫 이벤트만 전송 예약, 이후 이벤트는 대기 중인 이벤트에 합쳐짐
+        if (created[0]) {
+            taskScheduler.schedule(() -> flush(key), Instant.now().plus(Duration.ofMillis(COALESCE_WINDOW_MILLIS)));
+        }
+    }
+
+    private void flush(String key) {
+
+        PendingEvent pending = pendingEvents.remove(key);
+        if (pending == null) {
+            return;
+        }
+
+        Map<String, Object> payload;
+        synchronized (pending) {
+            payload = new LinkedHashMap<>();
+            payload.put("type", pending.getType());
+            payload.put("version", nextVersion(pending.getProjectId()));
+            payload.put("editedBy", pending.getEditedBy());
+            payload.put("memberId", pending.getRequestMemberId());
+            payload.put("changedMemberIds", List.copyOf(pending.getChangedMemberIds()));
+            payload.put("changedRoleIds", List.copyOf(pending.getChangedRoleIds()));
+        }
+
+        stompEventPublisher.publish("/topic/member/" + pending.getProjectId(), payload);
+        log.debug("member event -> project id : {}, type : {}, coalesced : {}", pending.getProjectId(), pending.getType(), pending.getCount());
+    }
+
+    private Long nextVersion(Long projectId) {
+        try {
+            return redisTemplate.opsForValue().increment(String.format(EVENT_VERSION_KEY, projectId));
+        } catch (Exception e) {
+            // version 발급 실패가 이벤트 전송을 막지 않도록 시각으로 대체
+            log.warn("member event version -> fail : project id - {}, error - {}", projectId, e.getMessage());
+            return System.currentTimeMillis();
+        }
+    }
+
+    @Getter
+    private static class PendingEvent {
+
+        private final Long projectId;
+
+        private final String type;
+
+        private final Set<Long> changedMemberIds = new LinkedHashSet<>();
+
+        private final Set<Long> changedRoleIds = new LinkedHashSet<>();
+
+        private String editedBy;
+
+        private Long requestMemberId;
+
+        private int count;
+
+        private PendingEvent(Long projectId, String type) {
+            this.projectId = projectId;
+            this.type = type;
+        }
+
+        private synchronized void merge(String editedBy, Long requestMemberId, Long changedMemberId, Long changedRoleId) {
+            this.editedBy = editedBy;
+            this.requestMemberId = requestMemberId;
+            if (changedMemberId != null) changedMemberIds.add(changedMemberId);
+            if (changedRoleId != null) changedRoleIds.add(changedRoleId);
+            count++;
+        }
+    }
+}
@@ -9,10 +9,10 @@ import com.example.weup.dto.response.RoleListResponseDTO;
 import com.example.weup.entity.*;
 import com.example.weup.repository.*;
 import com.example.weup.validate.MemberValidator;
+import com.example.weup.validate.MembershipCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +26,14 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final AsyncMailService asyncMailService;
-    private final S3Service s3Service;
+    private final ImageService imageService;
     private final ChatRoomService chatRoomService;
     private final ChatService chatService;
     private final NotificationService notificationService;
     private final MemberValidator memberValidator;
+    private final MembershipCache membershipCache;
+    private final SubscriptionAclService subscriptionAclService;
+    private final MemberEventCoalescer memberEventCoalescer;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
@@ -38,7 +41,6 @@ public class MemberService {
     private final MemberRoleRepository memberRoleRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
-    private final SimpMessagingTemplate messagingTemplate;
 
     @Transactional
     public Member addProjectCreater(Long userId, Project project) {
@@ -67,7 +69,7 @@ public class MemberService {
         Project project = projectRepository.findById(projectInviteRequestDTO.getProjectId())
                 .orElseThrow(() -> new GeneralException(ErrorInfo.PROJECT_NOT_FOUND));
 
-        memberValidator.validateActiveMemberInProject(userId, project.getProjectId());
+        memberValidator.validateActiveMemberIdInProject(userId, project.getProjectId());
 
         String email = projectInviteRequestDTO.getEmail().trim();
         User invitee = userRepository.findByAccountSocialEmail(email)
@@ -80,17 +82,15 @@ public class MemberService {
         if (existingMember != null) {
             if (existingMember.isMemberDeleted()) {
                 existingMember.reJoin();
+                membershipCache.evict(invitee.getUserId(), project.getProjectId());
+                subscriptionAclService.evict(invitee.getUserId());
                 chatRoomService.addChatRoomMember(chatRoomRepository.findByProjectAndBasicTrue(project), existingMember.getMemberId());
               
                 String msg = NotificationType.MEMBER_INVITED.format(invitee.getName(), project.getProjectName());
                 notificationService.sendPersonalNotification(invitee, msg, "INVITE", projectInviteRequestDTO.getProjectId());
                 notificationService.broadcastProjectNotification(project, msg, List.of(invitee.getUserId()), "INVITE");
 
-                messagingTemplate.convertAndSend(
-                        "/topic/member/" + projectInviteRequestDTO.getProjectId(),
-                        Map.of("type", "LIST_CHANGED",
-                                "editedBy", inviter.getName())
-                );
+                memberEventCoalescer.memberChanged(projectInviteRequestDTO.getProjectId(), inviter.getName(), null, existingMember.getMemberId());
 
                 return "초대가 완료되었습니다.";
             } else {
@@ -107,6 +107,7 @@ public class MemberService {
                 .lastAccessTime(LocalDateTime.now())
                 .build();
         memberRepository.save(member);
+        subscriptionAclService.evict(invitee.getUserId());
 
         chatRoomService.addChatRoomMember(chatRoomRepository.findByProjectAndBasicTrue(project), member.getMemberId());
 
@@ -114,21 +115,20 @@ public class MemberService {
         notificationService.sendPersonalNotification(invitee, msg, "INVITE", projectInviteRequestDTO.getProjectId());
         notificationService.broadcastProjectNotification(project, msg, List.of(invitee.getUserId()), "INVITE");
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + projectInviteRequestDTO.getProjectId(),
-                Map.of("type", "LIST_CHANGED",
-                        "editedBy", inviter.getName())
-        );
+        memberEventCoalescer.memberChanged(projectInviteRequestDTO.getProjectId(), inviter.getName(), null, member.getMemberId());
 
         return "초대가 완료되었습니다.";
     }
 
     @Transactional
     public List<MemberInfoResponseDTO> getProjectMembers(Long userId, Long projectId) {
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         List<Member> members = memberRepository.findByProject_ProjectIdAndIsMemberDeletedFalse(projectId);
         List<MemberRole> memberRoles = memberRoleRepository.findAllByProjectId(projectId);
+        Map<String, String> imageUrls = imageService.getImageUrls(members.stream()
+                .map(member -> member.getUser().getProfileImage())
+                .toList());
 
         Map<Long, List<Long>> memberIdToRoleIds = memberRoles.stream()
                 .collect(Collectors.groupingBy(
@@ -148,7 +148,7 @@ public class MemberService {
                             .memberId(member.getMemberId())
                             .name(user.getName())
                             .email(user.getAccountSocial().getEmail())
-                            .profileImage(s3Service.getPresignedUrl(user.getProfileImage()))
+                            .profileImage(imageUrls.get(user.getProfileImage()))
                             .phoneNumber(user.getPhoneNumber())
                             .isLeader(member.isLeader())
                             .roleIds(roleIds)
@@ -159,7 +159,7 @@ public class MemberService {
 
     @Transactional
     public void delegateLeader(Long formerLeaderUserId, LeaderDelegateRequestDTO leaderDelegateRequestDTO) {
-        memberValidator.validateActiveMemberInProject(formerLeaderUserId, leaderDelegateRequestDTO.getProjectId());
+        memberValidator.validateActiveMemberIdInProject(formerLeaderUserId, leaderDelegateRequestDTO.getProjectId());
 
         Project project = projectRepository.findById(leaderDelegateRequestDTO.getProjectId())
                 .orElseThrow(() -> new GeneralException(ErrorInfo.PROJECT_NOT_FOUND));
@@ -190,12 +190,13 @@ public class MemberService {
 
         memberRepository.save(formerLeaderMember);
         memberRepository.save(newLeaderMember);
+        membershipCache.evict(formerLeaderUserId, project.getProjectId());
+        membershipCache.evict(newLeaderMember.getUser().getUserId(), project.getProjectId());
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + leaderDelegateRequestDTO.getProjectId(),
-                Map.of("type", "LIST_CHANGED",
-                        "editedBy", formerLeaderMember.getUser().getName())
-        );
+        memberEventCoalescer.memberChanged(leaderDelegateRequestDTO.getProjectId(), formerLeaderMember.getUser().getName(),
+                formerLeaderMember.getMemberId(), newLeaderMember.getMemberId());
+        memberEventCoalescer.memberChanged(leaderDelegateRequestDTO.getProjectId(), formerLeaderMember.getUser().getName(),
+                formerLeaderMember.getMemberId(), formerLeaderMember.getMemberId());
 
         notificationService.sendPersonalNotification(newLeaderMember.getUser(),
                 NotificationType.LEADER_DELEGATED.format(project.getProjectName(),newLeaderMember.getUser().getName()),
@@ -204,7 +205,7 @@ public class MemberService {
 
     @Transactional
     public void deleteMember(Long userId, DeleteMemberRequestDTO deleteMemberRequestDTO) throws JsonProcessingException {
-        memberValidator.validateActiveMemberInProject(userId, deleteMemberRequestDTO.getProjectId());
+        memberValidator.validateActiveMemberIdInProject(userId, deleteMemberRequestDTO.getProjectId());
 
         User requestUser = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorInfo.USER_NOT_FOUND));
@@ -228,6 +229,8 @@ public class MemberService {
 
         targetMember.markAsDeleted();
         memberRepository.save(targetMember);
+        subscriptionAclService.evict(targetMember.getUser().getUserId());
+        membershipCache.evict(targetMember.getUser().getUserId(), project.getProjectId());
 
         List<MemberRole> memberRoleList = memberRoleRepository.findAllByMember_MemberId(targetMember.getMemberId());
         memberRoleRepository.deleteAll(memberRoleList);
@@ -245,16 +248,13 @@ public class MemberService {
         notificationService.sendPersonalNotification(targetMember.getUser(), msg, "DELETE", deleteMemberRequestDTO.getProjectId());
         notificationService.broadcastProjectNotification(project, msg, List.of(targetMember.getUser().getUserId()), "DELETE");
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + deleteMemberRequestDTO.getProjectId(),
-                Map.of("type", "LIST_CHANGED",
-                        "editedBy", requestMember.getUser().getName())
-        );
+        memberEventCoalescer.memberChanged(deleteMemberRequestDTO.getProjectId(), requestMember.getUser().getName(),
+                requestMember.getMemberId(), targetMember.getMemberId());
     }
 
     @Transactional
     public List<RoleListResponseDTO> listRoles(Long userId, Long projectId) {
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new GeneralException(ErrorInfo.PROJECT_NOT_FOUND));
 
@@ -298,14 +298,10 @@ public class MemberService {
                     .build();
 
             memberRoleRepository.save(memberRole);
-
-            messagingTemplate.convertAndSend(
-                    "/topic/member/" + assignRoleRequestDTO.getProjectId(),
-                    Map.of("type", "LIST_CHANGED",
-                            "editedBy", member.getUser().getName(),
-                            "memberId", requestMember.getMemberId())
-            );
         }
+
+        memberEventCoalescer.memberChanged(assignRoleRequestDTO.getProjectId(), member.getUser().getName(),
+                requestMember.getMemberId(), member.getMemberId());
     }
 
     @Transactional
@@ -326,12 +322,8 @@ public class MemberService {
 
         roleRepository.save(role);
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + createRoleRequestDTO.getProjectId(),
-                Map.of("type", "ROLE_CHANGED",
-                        "editedBy", member.getUser().getName(),
-                        "memberId", member.getMemberId())
-        );
+        memberEventCoalescer.roleChanged(createRoleRequestDTO.getProjectId(), member.getUser().getName(),
+                member.getMemberId(), role.getRoleId());
     }
 
     @Transactional
@@ -354,12 +346,8 @@ public class MemberService {
 
         role.editRole(roleName, roleColor);
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + editRoleRequestDTO.getProjectId(),
-                Map.of("type", "ROLE_CHANGED",
-                        "editedBy", member.getUser().getName(),
-                        "memberId", member.getMemberId())
-        );
+        memberEventCoalescer.roleChanged(editRoleRequestDTO.getProjectId(), member.getUser().getName(),
+                member.getMemberId(), role.getRoleId());
 
         roleRepository.save(role);
     }
@@ -375,11 +363,7 @@ public class MemberService {
 
         roleRepository.delete(role);
 
-        messagingTemplate.convertAndSend(
-                "/topic/member/" + deleteRoleRequestDTO.getProjectId(),
-                Map.of("type", "ROLE_CHANGED",
-                        "editedBy", member.getUser().getName(),
-                        "memberId", member.getMemberId())
-        );
+        memberEventCoalescer.roleChanged(deleteRoleRequestDTO.getProjectId(), member.getUser().getName(),
+                member.getMemberId(), role.getRoleId());
     }
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -28,7 +27,7 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
 
     @Transactional
     public Page<NotificationResponseDTO> getNotifications(Long userId, Pageable pageable) {
@@ -68,7 +67,7 @@ public class NotificationService {
                         .build()
         );
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/user/" + user.getUserId(),
                 Map.of("message", notification.getMessage(),
                         "type", type,
@@ -92,7 +91,7 @@ public class NotificationService {
 
         notificationRepository.saveAll(notifications);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/project/" + project.getProjectId(),
                 Map.of("message", message,
                         "type", type)
@@ -0,0 +1,132 @@
+package com.example.weup.service;
+
+import com.example.weup.util.ExpiringLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// presigned url 의 in-process L1 cache (redis 가 L2)
+// 만료 시각은 url 의 X-Amz-Date + X-Amz-Expires 에서 계산하고, 만료 EXPIRY_MARGIN_MILLIS 전에 제거해서 만료 직전 url 을 내려주지 않음
+// 지표는 Micrometer 로 등록
+// - presigned.url.cache.gets (counter, tag : result = l1 / l2 / miss), hit ratio 는 (l1 + l2) / 전체 로 계산
+// - presigned.url.presign (timer, S3 presign 호출 시간), cache.size (gauge, tag : cache)
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+    private static final int MAX_CACHED_URLS = 20_000;
+
+    private static final long EXPIRY_MARGIN_MILLIS = 30_000;
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = 300_000;
+
+    private static final Pattern AMZ_DATE = Pattern.compile("[?&]X-Amz-Date=(\\d{8}T\\d{6}Z)");
+
+    private static final Pattern AMZ_EXPIRES = Pattern.compile("[?&]X-Amz-Expires=(\\d+)");
+
+    private static final DateTimeFormatter AMZ_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(MAX_CACHED_URLS);
+
+    private final LongAdder l1HitCount = new LongAdder();
+
+    private final LongAdder l2HitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final Timer presignTimer;
+
+    public PresignedUrlCache(MeterRegistry meterRegistry) {
+        registerGetCounter(meterRegistry, "l1", l1HitCount);
+        registerGetCounter(meterRegistry, "l2", l2HitCount);
+        registerGetCounter(meterRegistry, "miss", missCount);
+        Gauge.builder("cache.size", cache, ExpiringLruCache::size)
+                .description("presigned url L1 cache entry 수")
+                .tag("cache", "presignedUrl")
+                .register(meterRegistry);
+        this.presignTimer = Timer.builder("presigned.url.presign")
+                .description("S3 presigned url 발급 시간")
+                .register(meterRegistry);
+    }
+
+    // 만료되지 않은 url 이 있으면 반환, 없으면 null
+    public String get(String fileName) {
+
+        String url = cache.get(fileName);
+        if (url != null) {
+            l1HitCount.increment();
+        }
+        return url;
+    }
+
+    public void put(String fileName, String url) {
+
+        // 이미 만료 여유 시간 안이면 cache 에 넣지 않음
+        cache.put(fileName, url, expiresAt(url) - EXPIRY_MARGIN_MILLIS);
+    }
+
+    public void recordL2Hit() {
+        l2HitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    public void recordPresign(long nanos) {
+        presignTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public double getHitRate() {
+        long hits = l1HitCount.sum() + l2HitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public long getAveragePresignMicros() {
+        return (long) presignTimer.mean(TimeUnit.MICROSECONDS);
+    }
+
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void evictExpiredAndLogStats() {
+        cache.evictExpired();
+        log.info("presigned url cache -> size : {}, l1 hit : {}, l2 hit : {}, miss : {}, hit rate : {}, presign : {}, avg presign us : {}",
+                cache.size(), l1HitCount.sum(), l2HitCount.sum(), missCount.sum(), String.format("%.3f", getHitRate()),
+                presignTimer.count(), getAveragePresignMicros());
+    }
+
+    private void registerGetCounter(MeterRegistry meterRegistry, String result, LongAdder count) {
+        FunctionCounter.builder("presigned.url.cache.gets", count, LongAdder::sum)
+                .description("presigned url 조회 수 (L1 hit / L2 hit / miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // url 에서 서명 시각 / 유효 시간을 읽지 못하면 L1 에 넣지 않음
+    private long expiresAt(String url) {
+        Matcher date = AMZ_DATE.matcher(url);
+        Matcher expires = AMZ_EXPIRES.matcher(url);
+        if (!date.find() || !expires.find()) {
+            return 0;
+        }
+
+        try {
+            long signedAt = LocalDateTime.parse(date.group(1), AMZ_DATE_FORMAT).toInstant(ZoneOffset.UTC).toEpochMilli();
+            return signedAt + TimeUnit.SECONDS.toMillis(Long.parseLong(expires.group(1)));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -10,13 +10,13 @@ import com.example.weup.dto.response.ListUpProjectResponseDTO;
 import com.example.weup.entity.*;
 import com.example.weup.repository.*;
 import com.example.weup.validate.MemberValidator;
+import com.example.weup.validate.MembershipCache;
 import com.example.weup.validate.ProjectValidator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,6 +37,7 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
     private final S3Service s3Service;
+    private final ImageService imageService;
     private final NotificationService notificationService;
     private final ChatRoomRepository chatRoomRepository;
     private final MemberValidator memberValidator;
@@ -49,7 +50,9 @@ public class ProjectService {
     private final FileRepository fileRepository;
     private final RoleRepository roleRepository;
     private final TodoRepository todoRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
+    private final MembershipCache membershipCache;
+    private final SubscriptionAclService subscriptionAclService;
 
     @Value("${project.default-image}")
     private String defaultProjectImage;
@@ -65,7 +68,7 @@ public class ProjectService {
         MultipartFile image = projectCreateRequestDTO.getProjectImage();
 
         if (image != null && !image.isEmpty()) {
-            storedFileName = s3Service.uploadSingleFile(image).getStoredFileName();
+            storedFileName = imageService.uploadImage(image);
         } else {
             storedFileName = defaultProjectImage;
         }
@@ -86,6 +89,9 @@ public class ProjectService {
 
         List<Member> activeMember = memberRepository.findActiveMemberByUserId(userId);
         log.info("get project list -> db read success : data size - {}", activeMember.size());
+        Map<String, String> imageUrls = imageService.getImageUrls(activeMember.stream()
+                .map(member -> member.getProject().getProjectImage())
+                .toList());
 
         return activeMember.stream().map(member -> {
 
@@ -102,7 +108,7 @@ public class ProjectService {
                     return ListUpProjectResponseDTO.builder()
                             .projectId(project.getProjectId())
                             .projectName(project.getProjectName())
-                            .projectImage(s3Service.getPresignedUrl(project.getProjectImage()))
+                            .projectImage(imageUrls.get(project.getProjectImage()))
                             .status(project.isStatus())
                             .projectCreatedTime(project.getProjectCreatedTime())
                             .finalTime(time)
@@ -121,7 +127,7 @@ public class ProjectService {
 
         return DetailProjectResponseDTO.builder()
                 .projectName(project.getProjectName())
-                .projectImage(s3Service.getPresignedUrl(project.getProjectImage()))
+                .projectImage(imageService.getImageUrl(project.getProjectImage()))
                 .description(project.getDescription())
                 .projectCreatedTime(project.getProjectCreatedTime())
                 .status(project.isStatus())
@@ -135,15 +141,17 @@ public class ProjectService {
     public void editProject(Long userId, Long projectId, ProjectEditRequestDTO dto) throws IOException {
 
         Project project = projectValidator.validateActiveProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
         memberValidator.isLeader(userId, project);
 
         MultipartFile image = dto.getProjectImage();
         if (image != null && !image.isEmpty()) {
             String existingImage = project.getProjectImage();
-            s3Service.deleteFile(existingImage);
+            if (!imageService.isContentAddressed(existingImage)) {
+                s3Service.deleteFile(existingImage);
+            }
 
-            String storedFileName = s3Service.uploadSingleFile(image).getStoredFileName();
+            String storedFileName = imageService.uploadImage(image);
             project.editProjectImage(storedFileName);
         }
 
@@ -162,7 +170,7 @@ public class ProjectService {
     public void deleteProject(Long userId, Long projectId) {
 
         Project project = projectValidator.validateAccessToGetProjectDetail(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
         memberValidator.isLeader(userId, project);
 
         project.editProjectDeletedTime(LocalDateTime.now());
@@ -175,7 +183,7 @@ public class ProjectService {
     public void restoreProject(Long userId, Long projectId) {
 
         Project project = projectValidator.validateRestoreProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         project.editProjectDeletedTime(null);
 
@@ -233,6 +241,12 @@ public class ProjectService {
 
             memberRepository.deleteAll(membersToDelete);
             log.info("delete project -> Member db data deleted");
+
+            // 삭제된 멤버의 구독 권한 / 멤버십 cache 제거 (commit 이후)
+            for (Member member : membersToDelete) {
+                membershipCache.evict(member.getUser().getUserId(), project.getProjectId());
+                subscriptionAclService.evict(member.getUser().getUserId());
+            }
         }
 
         // 프로젝트
@@ -248,7 +262,7 @@ public class ProjectService {
             throw new GeneralException(ErrorInfo.IS_EDITING_NOW);
         }
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/project/" + projectId,
                 Map.of("type", "EDIT_LOCK",
                         "lockedBy", member.getUser().getName(),
@@ -259,7 +273,7 @@ public class ProjectService {
     public void broadcastProjectDescriptionUpdate(Long userId, String description, Long projectId) {
         Member member = memberValidator.validateActiveMemberInProject(userId, projectId);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/project/" + projectId,
                 Map.of("type", "EDIT_UPDATE",
                         "description", description,
@@ -278,7 +292,7 @@ public class ProjectService {
 
         redisTemplate.delete(lockKey(projectId));
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/project/" + projectId,
                 Map.of("type", "EDIT_UNLOCK",
                         "memberId", member.getMemberId())
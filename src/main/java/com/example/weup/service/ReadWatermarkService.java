@@ -0,0 +1,151 @@
+package com.example.weup.service;
+
+import com.example.weup.repository.ReadMembersRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// 채팅방별 멤버 읽음 watermark (member -> 마지막으로 읽은 메시지 score)
+// 메시지 하나의 읽은 사람 수 = watermark 가 메시지 score 이상인 멤버 수
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadWatermarkService {
+
+    private static final String READ_WATERMARKS_KEY = "chatroom:%s:readWatermarks";
+
+    private static final String MIGRATED_KEY = "chat:readWatermark:migrated";
+
+    private static final String MIGRATION_LOCK_KEY = "chat:readWatermark:migrating";
+
+    // migration 중 노드가 죽어도 lock 이 남지 않도록 TTL 을 둠 (다음 기동 시 다시 시도)
+    private static final Duration MIGRATION_LOCK_TTL = Duration.ofMinutes(10);
+
+    // 채팅방을 보고 있는 멤버는 이후 저장되는 메시지를 모두 읽은 것으로 처리
+    private static final double ACTIVE_WATERMARK = 1e15;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ReadMembersRepository readMembersRepository;
+
+    private final RedisScript<Long> releaseLockScript;
+
+    public String getWatermarksKey(Long chatRoomId) {
+        return String.format(READ_WATERMARKS_KEY, chatRoomId);
+    }
+
+    // 채팅방 입장 (active)
+    public void markActive(Long chatRoomId, Long memberId) {
+        redisTemplate.opsForZSet().add(getWatermarksKey(chatRoomId), String.valueOf(memberId), ACTIVE_WATERMARK);
+    }
+
+    // 채팅방 퇴장 (inactive), 현재 시각까지 읽음
+    public void markReadNow(Long chatRoomId, Long memberId) {
+        markReadAt(chatRoomId, memberId, LocalDateTime.now());
+    }
+
+    // 죽은 노드 정리 시 마지막 heartbeat 시각까지 읽음
+    public void markReadAt(Long chatRoomId, Long memberId, LocalDateTime readAt) {
+        redisTemplate.opsForZSet().add(getWatermarksKey(chatRoomId), String.valueOf(memberId), toScore(readAt));
+    }
+
+    // 채팅방 멤버 제거
+    public void removeMember(Long chatRoomId, Long memberId) {
+        redisTemplate.opsForZSet().remove(getWatermarksKey(chatRoomId), String.valueOf(memberId));
+    }
+
+    public void deleteChatRoom(Long chatRoomId) {
+        redisTemplate.delete(getWatermarksKey(chatRoomId));
+    }
+
+    // 채팅방 전체 watermark (오름차순), 한 페이지의 읽음 수를 한 번의 조회로 계산할 때 사용
+    public long[] getWatermarkScores(Long chatRoomId) {
+        Set<ZSetOperations.TypedTuple<String>> watermarks = redisTemplate.opsForZSet().rangeWithScores(getWatermarksKey(chatRoomId), 0, -1);
+        if (watermarks == null) {
+            return new long[0];
+        }
+
+        return watermarks.stream()
+                .mapToLong(watermark -> watermark.getScore() != null ? watermark.getScore().longValue() : 0L)
+                .sorted()
+                .toArray();
+    }
+
+    // watermark 가 message score 이상인 멤버 수
+    public static long countReadMembers(long[] sortedWatermarks, long messageScore) {
+        int low = 0;
+        int high = sortedWatermarks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedWatermarks[mid] < messageScore) low = mid + 1;
+            else high = mid;
+        }
+        return sortedWatermarks.length - low;
+    }
+
+    public static long toScore(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+    }
+
+    // 기존 read_members 데이터로 watermark 초기화 (최초 1회, 이미 있는 watermark 는 유지)
+    // TTL 이 있는 lock 으로 한 노드만 실행하고, pipeline 까지 성공한 뒤에만 완료 표시 (실패하면 다음 기동 시 다시 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateFromReadMembers() {
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATED_KEY))) {
+            return;
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MIGRATION_LOCK_KEY, lockToken, MIGRATION_LOCK_TTL))) {
+            log.info("read watermark migration -> skip, running on another node");
+            return;
+        }
+
+        try {
+            List<Object[]> lastReads = readMembersRepository.findLastReadAtGroupByChatRoomAndMember();
+            log.info("read watermark migration -> start, data size : {}", lastReads.size());
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Object[] lastRead : lastReads) {
+                    long chatRoomId = ((Number) lastRead[0]).longValue();
+                    long memberId = ((Number) lastRead[1]).longValue();
+                    LocalDateTime lastReadAt = lastRead[2] instanceof Timestamp timestamp
+                            ? timestamp.toLocalDateTime()
+                            : (LocalDateTime) lastRead[2];
+
+                    connection.zSetCommands().zAdd(
+                            getWatermarksKey(chatRoomId).getBytes(StandardCharsets.UTF_8),
+                            toScore(lastReadAt),
+                            String.valueOf(memberId).getBytes(StandardCharsets.UTF_8),
+                            RedisZSetCommands.ZAddArgs.ifNotExists());
+                }
+                return null;
+            });
+
+            redisTemplate.opsForValue().set(MIGRATED_KEY, LocalDateTime.now().toString());
+            log.info("read watermark migration -> end");
+        } catch (RuntimeException e) {
+            log.error("read watermark migration -> fail, will retry on next startup : {}", e.getMessage(), e);
+        } finally {
+            // 이 노드가 잡은 lock 일 때만 해제 (비교와 삭제를 script 로 한 번에 실행)
+            redisTemplate.execute(releaseLockScript, List.of(MIGRATION_LOCK_KEY), lockToken);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.weup.service;
+
+import com.example.weup.config.S3Properties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.storage", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStorage implements ImageStorage {
+
+    // 같은 key 는 항상 같은 내용이므로 브라우저 / CDN 이 영구 cache 하도록 지정
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3Client;
+    private final S3Properties s3Properties;
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(s3Properties.getBucket())
+                        .key(key)
+                        .contentType(contentType)
+                        .cacheControl(CACHE_CONTROL)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+    }
+
+    @Override
+    public StoredImage get(String key) {
+        try {
+            ResponseInputStream<GetObjectResponse> object = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(key)
+                    .build());
+            GetObjectResponse response = object.response();
+            return new StoredImage(object, response.contentLength(), response.contentType());
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+}
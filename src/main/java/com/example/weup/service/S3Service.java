@@ -5,22 +5,48 @@ import com.example.weup.config.S3Properties;
 import com.example.weup.constant.ErrorInfo;
 import com.example.weup.dto.response.FileFullResponseDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
@@ -29,18 +55,100 @@ public class S3Service {
     private final S3Presigner presigner;
     private final S3Properties s3Properties;
     private final StringRedisTemplate redisTemplate;
+    private final PresignedUrlCache presignedUrlCache;
 
     private static final Duration PRESIGNED_DURATION = Duration.ofMinutes(5);
     private static final Duration REDIS_TTL = Duration.ofMinutes(4).plusSeconds(40);
+    private static final int MULTIPART_PART_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_CONCURRENT_UPLOADS = 4;
 
+    // L1 (in-process) -> L2 (redis) -> presign 순서로 조회
     public String getPresignedUrl(String fileName) {
+        if (fileName != null) {
+            String localUrl = presignedUrlCache.get(fileName);
+            if (localUrl != null) {
+                return localUrl;
+            }
+        }
+
         String redisKey = "presigned: " + fileName;
         String cachedUrl = redisTemplate.opsForValue().get(redisKey);
 
         if (cachedUrl != null) {
+            presignedUrlCache.recordL2Hit();
+            if (fileName != null) presignedUrlCache.put(fileName, cachedUrl);
             return cachedUrl;
         }
 
+        presignedUrlCache.recordMiss();
+        String presignedUrl = presign(fileName);
+
+        redisTemplate.opsForValue().set(redisKey, presignedUrl, REDIS_TTL);
+        if (fileName != null) presignedUrlCache.put(fileName, presignedUrl);
+
+        return presignedUrl;
+    }
+
+    // 여러 파일의 presigned url 조회, L1 miss 만 MGET 한 번으로 조회하고 redis miss 는 병렬로 presign 후 pipeline 으로 저장
+    public Map<String, String> getPresignedUrls(Collection<String> fileNames) {
+        Map<String, String> presignedUrls = new HashMap<>();
+        List<String> remoteFileNames = new ArrayList<>();
+
+        fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.isBlank())
+                .distinct()
+                .forEach(fileName -> {
+                    String localUrl = presignedUrlCache.get(fileName);
+                    if (localUrl != null) {
+                        presignedUrls.put(fileName, localUrl);
+                    } else {
+                        remoteFileNames.add(fileName);
+                    }
+                });
+
+        if (remoteFileNames.isEmpty()) {
+            return presignedUrls;
+        }
+
+        List<String> cachedUrls = redisTemplate.opsForValue().multiGet(
+                remoteFileNames.stream().map(fileName -> "presigned: " + fileName).toList());
+
+        List<String> missedFileNames = new ArrayList<>();
+        for (int i = 0; i < remoteFileNames.size(); i++) {
+            String cachedUrl = cachedUrls != null ? cachedUrls.get(i) : null;
+            if (cachedUrl != null) {
+                presignedUrlCache.recordL2Hit();
+                presignedUrlCache.put(remoteFileNames.get(i), cachedUrl);
+                presignedUrls.put(remoteFileNames.get(i), cachedUrl);
+            } else {
+                presignedUrlCache.recordMiss();
+                missedFileNames.add(remoteFileNames.get(i));
+            }
+        }
+
+        if (!missedFileNames.isEmpty()) {
+            // presign 은 로컬 서명 (네트워크 없음) 이므로 miss 가 많으면 병렬 처리
+            Map<String, String> missedUrls = (missedFileNames.size() > 1 ? missedFileNames.parallelStream() : missedFileNames.stream())
+                    .collect(Collectors.toConcurrentMap(fileName -> fileName, this::presign));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                missedUrls.forEach((fileName, url) -> connection.stringCommands().set(
+                        ("presigned: " + fileName).getBytes(StandardCharsets.UTF_8),
+                        url.getBytes(StandardCharsets.UTF_8),
+                        Expiration.from(REDIS_TTL),
+                        RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+            missedUrls.forEach(presignedUrlCache::put);
+            presignedUrls.putAll(missedUrls);
+        }
+
+        return presignedUrls;
+    }
+
+    private String presign(String fileName) {
+        long startedAt = System.nanoTime();
+
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(s3Properties.getBucket())
                 .key(fileName)
@@ -51,26 +159,60 @@ public class S3Service {
                 .getObjectRequest(getObjectRequest)
                 .build();
 
-        String presignedUrl = presigner.presignGetObject(presignRequest).url().toString();
-
-        redisTemplate.opsForValue().set(redisKey, presignedUrl, REDIS_TTL);
-
-        return presignedUrl;
+        String url = presigner.presignGetObject(presignRequest).url().toString();
+        presignedUrlCache.recordPresign(System.nanoTime() - startedAt);
+        return url;
     }
 
+    // 여러 파일을 동시에 업로드 (최대 MAX_CONCURRENT_UPLOADS 개), 하나라도 실패하면 이미 올라간 파일을 지우고 실패 처리
     public List<FileFullResponseDTO> uploadFiles(List<MultipartFile> files) {
         if (files == null || files.isEmpty()) return Collections.emptyList();
 
-        List<FileFullResponseDTO> uploadedFiles = new ArrayList<>();
-
-        for (MultipartFile file : files) {
+        if (files.size() == 1) {
             try {
-                uploadedFiles.add(uploadSingleFile(file));
+                return List.of(uploadSingleFile(files.get(0)));
             } catch (IOException e) {
                 throw new GeneralException(ErrorInfo.FILE_UPLOAD_FAILED);
             }
         }
 
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_UPLOADS);
+        List<Future<FileFullResponseDTO>> futures = new ArrayList<>();
+
+        // close 시 모든 업로드가 끝날 때까지 기다림
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return uploadSingleFile(file);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<FileFullResponseDTO> uploadedFiles = new ArrayList<>();
+        boolean failed = false;
+
+        for (Future<FileFullResponseDTO> future : futures) {
+            try {
+                uploadedFiles.add(future.get());
+            } catch (ExecutionException e) {
+                failed = true;
+                log.error("upload files -> fail : {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            deleteFiles(uploadedFiles.stream().map(FileFullResponseDTO::getStoredFileName).toList());
+            throw new GeneralException(ErrorInfo.FILE_UPLOAD_FAILED);
+        }
+
         return uploadedFiles;
     }
 
@@ -78,12 +220,20 @@ public class S3Service {
         String originalFileName = Paths.get(file.getOriginalFilename()).getFileName().toString();
         String storedFileName = UUID.randomUUID() + "-" + originalFileName;
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(s3Properties.getBucket())
-                .key(storedFileName)
-                .build();
+        if (file.getSize() > MULTIPART_PART_SIZE) {
+            uploadMultipart(file, storedFileName);
+        } else {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(storedFileName)
+                    .contentType(file.getContentType())
+                    .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            // 전체를 byte[] 로 읽지 않고 multipart 임시 파일에서 바로 전송
+            try (InputStream inputStream = file.getInputStream()) {
+                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+            }
+        }
 
         return FileFullResponseDTO.builder()
                 .originalFileName(originalFileName)
@@ -93,10 +243,113 @@ public class S3Service {
                 .build();
     }
 
+    // 큰 파일은 MULTIPART_PART_SIZE 버퍼 하나를 재사용하며 part 단위로 업로드 (업로드 당 heap 사용량이 part 크기로 제한됨)
+    private void uploadMultipart(MultipartFile file, String key) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(s3Properties.getBucket())
+                .key(key)
+                .contentType(file.getContentType())
+                .build()).uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+        byte[] buffer = new byte[MULTIPART_PART_SIZE];
+
+        try (InputStream inputStream = file.getInputStream()) {
+            int partNumber = 1;
+            int length;
+            while ((length = inputStream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(s3Properties.getBucket())
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 실패한 업로드의 part 가 bucket 에 남지 않도록 중단
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    // client 가 직접 업로드할 presigned PUT url, content type / length 가 서명에 포함되어 다른 크기 / 형식으로는 업로드할 수 없음
+    public String presignPut(String fileName, String contentType, long contentLength, Duration duration) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Properties.getBucket())
+                .key(fileName)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(duration)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        return presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    // 없으면 null
+    public HeadObjectResponse headFile(String fileName) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(s3Properties.getBucket())
+                    .key(fileName)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
     public void deleteFile(String fileName) {
         s3Client.deleteObject(DeleteObjectRequest.builder()
                 .bucket(s3Properties.getBucket())
                 .key(fileName)
                 .build());
     }
+
+    // 업로드 실패 / 트랜잭션 실패 시 정리용, 삭제 실패는 로그만 남김
+    public void deleteFiles(Collection<String> fileNames) {
+        for (String fileName : fileNames) {
+            try {
+                deleteFile(fileName);
+            } catch (RuntimeException e) {
+                log.error("delete file -> fail : file - {}, error - {}", fileName, e.getMessage());
+            }
+        }
+    }
+
+    // 트랜잭션 안이면 commit 이후 삭제 (rollback 되면 파일 유지)
+    public void deleteFilesAfterCommit(Collection<String> fileNames) {
+        if (fileNames.isEmpty()) return;
+
+        List<String> targets = List.copyOf(fileNames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFiles(targets);
+                }
+            });
+            return;
+        }
+
+        deleteFiles(targets);
+    }
 }
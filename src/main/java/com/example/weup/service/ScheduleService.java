@@ -8,7 +8,6 @@ import com.example.weup.validate.MemberValidator;
 import com.example.weup.validate.ProjectValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,12 +26,12 @@ public class ScheduleService {
 
     private final ProjectValidator projectValidator;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
 
     public List<GetScheduleResponseDTO> getSchedule(Long userId, Long projectId) {
 
         projectValidator.validateActiveProject(projectId);
-        memberValidator.validateActiveMemberInProject(userId, projectId);
+        memberValidator.validateActiveMemberIdInProject(userId, projectId);
 
         List<Member> getMember = memberRepository.findByProject_ProjectIdAndIsMemberDeletedFalse(projectId);
         List<GetScheduleResponseDTO> responseDTOList = new ArrayList<>();
@@ -57,7 +56,7 @@ public class ScheduleService {
 
         memberRepository.save(member);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/schedule/" + projectId,
                 Map.of("memberId", member.getMemberId(),
                         "availableTime", scheduleRequestDTO.getAvailableTime())
@@ -1,16 +1,35 @@
 package com.example.weup.service;
 
-import com.example.weup.entity.Member;
 import com.example.weup.validate.ChatValidator;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+// WebSocket presence
+// - ws:session:{id} 는 TTL 을 두고 노드 heartbeat 마다 갱신 (노드가 죽으면 자동 만료)
+// - 채팅방 active / connect member 는 세션(탭) 단위 ref count, 모든 세션이 떠나야 members set 에서 제거
+// - 노드별 기여분을 ws:node:{nodeId}:presence 에 기록하고, heartbeat 가 끊긴 노드의 기여분은 reaper 가 제거
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,42 +39,85 @@ public class SessionService {
 
     private final ChatValidator chatValidator;
 
+    private final ReadWatermarkService readWatermarkService;
+
+    private final UnreadCountService unreadCountService;
+
+    private final RedisScript<Long> presenceJoinScript;
+
+    private final RedisScript<Long> presenceLeaveScript;
+
     private static final String SESSION_TO_USER_KEY = "ws:session:";
-    private static final String CHATROOM_ACTIVE_MEMBERS_KEY = "chatroom:%s:active:members";
-    private static final String CHATROOM_CONNECT_MEMBERS_KEY = "chatroom:%s:connect:members";
+    // 이전 chatroom:{id}:active:members / connect:members 에는 ref 없이 남은 member id 가 있어 reaper 가 정리할 수 없으므로
+    // ref count 로만 관리되는 새 key 를 사용 (이전 key 는 더 이상 읽지 않음)
+    private static final String CHATROOM_ACTIVE_MEMBERS_KEY = "chatroom:%s:active:presence";
+    private static final String CHATROOM_CONNECT_MEMBERS_KEY = "chatroom:%s:connect:presence";
+    private static final String CHATROOM_PRESENCE_REFS_KEY = "chatroom:%s:%s:refs";
     private static final String LAST_READ_AT_KEY = "chatroom:%s:lastReadAt:%s";
+    private static final String NODES_KEY = "ws:nodes";
+    private static final String NODE_PRESENCE_KEY = "ws:node:%s:presence";
+
+    private static final String ACTIVE = "active";
+    private static final String CONNECT = "connect";
+
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 10_000;
+    private static final long SESSION_TTL_MILLIS = 60_000;
+    private static final long NODE_TIMEOUT_MILLIS = 60_000;
+    private static final long REAPER_INTERVAL_MILLIS = 30_000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 이 노드에 연결된 세션 (session id -> user id, 세션이 참여 중인 presence)
+    private final Map<String, LocalSession> localSessions = new ConcurrentHashMap<>();
 
     // session connect
     public void saveSession(String sessionId, String userId) {
-        redisTemplate.opsForValue().set(SESSION_TO_USER_KEY + sessionId, userId);
+        localSessions.put(sessionId, new LocalSession(userId, ConcurrentHashMap.newKeySet()));
+        redisTemplate.opsForValue().set(SESSION_TO_USER_KEY + sessionId, userId, SESSION_TTL_MILLIS, TimeUnit.MILLISECONDS);
     }
 
-    // session disconnect
+    // session disconnect, 세션이 참여 중이던 presence 도 함께 정리
     public void removeSession(String sessionId) {
-        String userId = redisTemplate.opsForValue().get(SESSION_TO_USER_KEY + sessionId);
-        if (userId != null) {
-            redisTemplate.delete(SESSION_TO_USER_KEY + sessionId);
+        LocalSession localSession = localSessions.remove(sessionId);
+        if (localSession != null) {
+            for (String presenceField : localSession.getPresenceFields()) {
+                releasePresence(presenceField, Long.valueOf(localSession.getUserId()));
+            }
         }
+
+        redisTemplate.delete(SESSION_TO_USER_KEY + sessionId);
     }
 
     // session id -> user id 조회
     public String getUserIdBySession(String sessionId) {
+        LocalSession localSession = localSessions.get(sessionId);
+        if (localSession != null) {
+            return localSession.getUserId();
+        }
         return redisTemplate.opsForValue().get(SESSION_TO_USER_KEY + sessionId);
     }
 
     // 채팅방 active member 추가
-    public void addActiveMemberToChatRoom(Long chatRoomId, Long userId) {
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        redisTemplate.opsForSet().add(String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId), String.valueOf(member.getMemberId()));
+    public void addActiveMemberToChatRoom(Long chatRoomId, Long userId, String sessionId) {
+        Long memberId = chatValidator.validateMemberIdInChatRoomSession(chatRoomId, userId);
+        if (joinPresence(sessionId, ACTIVE, chatRoomId, memberId)) {
+            readWatermarkService.markActive(chatRoomId, memberId);
+        }
     }
 
-    // 채팅방 active member 제거
-    public void removeActiveMemberFromChatRoom(Long chatRoomId, Long userId) {
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        redisTemplate.opsForSet().remove(String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId), String.valueOf(member.getMemberId()));
+    // 채팅방 active member 제거, 다른 탭에서 보고 있으면 active 유지
+    public void removeActiveMemberFromChatRoom(Long chatRoomId, Long userId, String sessionId) {
+        Long memberId = chatValidator.validateMemberIdInChatRoomSession(chatRoomId, userId);
+        String presenceField = presenceField(ACTIVE, chatRoomId, memberId);
 
-        if (getActiveMembersCountInChatRoom(chatRoomId) == 0) {
-            redisTemplate.delete(String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId));
+        // 이미 종료된 세션 (disconnect 이후 실행된 UNSUBSCRIBE) 이거나 참여하지 않은 presence 면 다른 세션의 ref 를 건드리지 않음
+        LocalSession localSession = localSessions.get(sessionId);
+        if (localSession == null || !localSession.getPresenceFields().remove(presenceField)) {
+            return;
+        }
+
+        if (leavePresence(nodeId, presenceField, 1) == 0) {
+            readWatermarkService.markReadNow(chatRoomId, memberId);
         }
     }
 
@@ -64,28 +126,34 @@ public class SessionService {
         return redisTemplate.opsForSet().members(String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId));
     }
 
+    // 채팅방 active member key 조회
+    public String getActiveMembersKey(Long chatRoomId) {
+        return String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId);
+    }
+
     // 채팅방 active member 수 조회
     public long getActiveMembersCountInChatRoom(Long chatRoomId) {
         Long size = redisTemplate.opsForSet().size(String.format(CHATROOM_ACTIVE_MEMBERS_KEY, chatRoomId));
         return size != null ? size : 0;
     }
 
-    // 채팅방 connect member 추가
-    public void addConnectMemberToChatRoom(Long chatRoomId, Long userId) {
-        log.debug("\n session service - add connect member to chat room IN");
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        log.debug("chat validator OUT");
-        redisTemplate.opsForSet().add(String.format(CHATROOM_CONNECT_MEMBERS_KEY, chatRoomId), String.valueOf(member.getMemberId()));
+    // 채팅방 connect member 추가 (구독 권한 검증에서 member id 를 이미 확인한 경우)
+    public void addConnectMemberIdToChatRoom(Long chatRoomId, Long memberId, String sessionId) {
+        joinPresence(sessionId, CONNECT, chatRoomId, memberId);
     }
 
     // 채팅방 connect member 제거
-    public void removeConnectMemberFromChatRoom(Long chatRoomId, Long userId) {
-        Member member = chatValidator.validateMemberInChatRoomSession(chatRoomId, userId);
-        redisTemplate.opsForSet().remove(String.format(CHATROOM_CONNECT_MEMBERS_KEY, chatRoomId), String.valueOf(member.getMemberId()));
+    public void removeConnectMemberFromChatRoom(Long chatRoomId, Long userId, String sessionId) {
+        Long memberId = chatValidator.validateMemberIdInChatRoomSession(chatRoomId, userId);
+        String presenceField = presenceField(CONNECT, chatRoomId, memberId);
 
-        if (getConnectMembersCountInChatRoom(chatRoomId) == 0) {
-            redisTemplate.delete(String.format(CHATROOM_CONNECT_MEMBERS_KEY, chatRoomId));
+        // 이미 종료된 세션 (disconnect 이후 실행된 UNSUBSCRIBE) 이거나 참여하지 않은 presence 면 다른 세션의 ref 를 건드리지 않음
+        LocalSession localSession = localSessions.get(sessionId);
+        if (localSession == null || !localSession.getPresenceFields().remove(presenceField)) {
+            return;
         }
+
+        leavePresence(nodeId, presenceField, 1);
     }
 
     // 채팅방 connect member 목록 조회
@@ -99,11 +167,12 @@ public class SessionService {
         return size != null ? size : 0;
     }
 
-    // lastReadAt 저장
+    // lastReadAt 저장, 읽지 않은 메시지 수도 함께 초기화
     public void saveLastReadAt(Long chatRoomId, Long userId, Instant lastReadAt) {
         log.debug("\n\n session service - save last read at IN");
         long kstTime = lastReadAt.atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
         redisTemplate.opsForValue().set(String.format(LAST_READ_AT_KEY, chatRoomId, userId), String.valueOf(kstTime));
+        unreadCountService.markAllRead(chatRoomId, userId);
     }
 
     // lastReadAt 불러오기
@@ -113,4 +182,141 @@ public class SessionService {
         log.debug("Get Last Read At -> {}", Instant.ofEpochMilli(Long.parseLong(lastReadAtStr)));
         return Instant.ofEpochMilli(Long.parseLong(lastReadAtStr));
     }
+
+    // 노드 heartbeat, 이 노드 세션 key 의 TTL 도 함께 갱신
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MILLIS)
+    public void heartbeat() {
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, System.currentTimeMillis());
+
+        if (localSessions.isEmpty()) {
+            return;
+        }
+
+        List<String> sessionIds = List.copyOf(localSessions.keySet());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String sessionId : sessionIds) {
+                LocalSession localSession = localSessions.get(sessionId);
+                if (localSession == null) continue;
+
+                connection.stringCommands().set(
+                        (SESSION_TO_USER_KEY + sessionId).getBytes(StandardCharsets.UTF_8),
+                        localSession.getUserId().getBytes(StandardCharsets.UTF_8),
+                        Expiration.milliseconds(SESSION_TTL_MILLIS),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    // heartbeat 가 끊긴 노드의 presence 정리, ZREM 에 성공한 노드만 정리해 여러 노드가 동시에 처리하지 않음
+    @Scheduled(fixedDelay = REAPER_INTERVAL_MILLIS)
+    public void reapDeadNodes() {
+        Set<ZSetOperations.TypedTuple<String>> deadNodes = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(NODES_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis() - NODE_TIMEOUT_MILLIS);
+        if (deadNodes == null || deadNodes.isEmpty()) {
+            return;
+        }
+
+        for (ZSetOperations.TypedTuple<String> deadNode : deadNodes) {
+            String deadNodeId = deadNode.getValue();
+            if (deadNodeId == null || nodeId.equals(deadNodeId)) continue;
+
+            Long removed = redisTemplate.opsForZSet().remove(NODES_KEY, deadNodeId);
+            if (removed == null || removed == 0) continue;
+
+            LocalDateTime lastHeartbeat = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(deadNode.getScore() != null ? deadNode.getScore().longValue() : System.currentTimeMillis()),
+                    ZoneId.systemDefault());
+            reapNode(deadNodeId, lastHeartbeat);
+        }
+    }
+
+    // 정상 종료 시 이 노드의 presence 를 바로 정리
+    @PreDestroy
+    public void releaseNode() {
+        localSessions.clear();
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        reapNode(nodeId, LocalDateTime.now());
+    }
+
+    private void reapNode(String targetNodeId, LocalDateTime lastHeartbeat) {
+        String nodePresenceKey = String.format(NODE_PRESENCE_KEY, targetNodeId);
+        Map<Object, Object> presences = redisTemplate.opsForHash().entries(nodePresenceKey);
+
+        for (Map.Entry<Object, Object> presence : presences.entrySet()) {
+            String presenceField = (String) presence.getKey();
+            long count = Long.parseLong((String) presence.getValue());
+            if (count <= 0) continue;
+
+            String[] parts = presenceField.split(":");
+            if (leavePresence(targetNodeId, presenceField, count) == 0 && ACTIVE.equals(parts[0])) {
+                readWatermarkService.markReadAt(Long.valueOf(parts[1]), Long.valueOf(parts[2]), lastHeartbeat);
+            }
+        }
+
+        redisTemplate.delete(nodePresenceKey);
+        log.info("presence reaper -> node : {}, released presence : {}", targetNodeId, presences.size());
+    }
+
+    // 세션 종료 시 세션이 참여 중이던 presence 제거
+    private void releasePresence(String presenceField, Long userId) {
+        String[] parts = presenceField.split(":");
+        Long chatRoomId = Long.valueOf(parts[1]);
+        Long memberId = Long.valueOf(parts[2]);
+
+        if (leavePresence(nodeId, presenceField, 1) == 0 && ACTIVE.equals(parts[0])) {
+            readWatermarkService.markReadNow(chatRoomId, memberId);
+        }
+        if (ACTIVE.equals(parts[0])) {
+            saveLastReadAt(chatRoomId, userId, Instant.now());
+        }
+    }
+
+    // 같은 세션의 중복 구독은 한 번만 센다, 이미 종료된 세션이면 (비동기 입장 처리가 disconnect 이후 실행) 무시
+    private boolean joinPresence(String sessionId, String kind, Long chatRoomId, Long memberId) {
+        String presenceField = presenceField(kind, chatRoomId, memberId);
+
+        LocalSession localSession = localSessions.get(sessionId);
+        if (localSession == null) {
+            log.debug("presence join -> closed session : {}", sessionId);
+            return false;
+        }
+        if (!localSession.getPresenceFields().add(presenceField)) {
+            return true;
+        }
+
+        redisTemplate.execute(presenceJoinScript,
+                List.of(String.format(CHATROOM_PRESENCE_REFS_KEY, chatRoomId, kind), membersKey(kind, chatRoomId), String.format(NODE_PRESENCE_KEY, nodeId)),
+                String.valueOf(memberId), presenceField);
+        return true;
+    }
+
+    // 이탈 후 ref count, 노드 기여분이 없어 무시되면 -1
+    private long leavePresence(String targetNodeId, String presenceField, long count) {
+        String[] parts = presenceField.split(":");
+        String kind = parts[0];
+        Long chatRoomId = Long.valueOf(parts[1]);
+
+        Long refs = redisTemplate.execute(presenceLeaveScript,
+                List.of(String.format(CHATROOM_PRESENCE_REFS_KEY, chatRoomId, kind), membersKey(kind, chatRoomId), String.format(NODE_PRESENCE_KEY, targetNodeId)),
+                parts[2], presenceField, String.valueOf(count));
+        return refs != null ? refs : 0L;
+    }
+
+    private String membersKey(String kind, Long chatRoomId) {
+        return String.format(ACTIVE.equals(kind) ? CHATROOM_ACTIVE_MEMBERS_KEY : CHATROOM_CONNECT_MEMBERS_KEY, chatRoomId);
+    }
+
+    private String presenceField(String kind, Long chatRoomId, Long memberId) {
+        return kind + ":" + chatRoomId + ":" + memberId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class LocalSession {
+
+        private final String userId;
+
+        private final Set<String> presenceFields;
+    }
 }
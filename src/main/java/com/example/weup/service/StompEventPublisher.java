@@ -0,0 +1,113 @@
+package com.example.weup.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// STOMP 이벤트 발행
+// - 트랜잭션 안에서 호출하면 메시지를 바로 직렬화해서 쌓아두고, commit 이후 stompEventExecutor 에서 순서대로 전송 (rollback 시 버림)
+// - 트랜잭션 밖에서 호출하면 바로 전송
+// client 가 commit 전에 이벤트를 받고 이전 데이터를 다시 조회하는 문제와, broker 전송 시간이 트랜잭션에 포함되는 문제를 막기 위해 사용
+@Slf4j
+@Service
+public class StompEventPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Executor stompEventExecutor;
+
+    public StompEventPublisher(SimpMessagingTemplate messagingTemplate,
+                               @Qualifier("stompEventExecutor") Executor stompEventExecutor) {
+        this.messagingTemplate = messagingTemplate;
+        this.stompEventExecutor = stompEventExecutor;
+    }
+
+    public void publish(String destination, Object payload) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+
+        // entity 지연 로딩 등이 commit 이후에 일어나지 않도록 지금 직렬화
+        PendingEvent event = new PendingEvent(destination, toMessage(payload));
+
+        @SuppressWarnings("unchecked")
+        List<PendingEvent> pendingEvents = (List<PendingEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pendingEvents == null) {
+            pendingEvents = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pendingEvents);
+            TransactionSynchronizationManager.registerSynchronization(new PendingEventsSynchronization(pendingEvents));
+        }
+        pendingEvents.add(event);
+    }
+
+    private Message<?> toMessage(Object payload) {
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setLeaveMutable(true);
+
+        MessageConverter converter = messagingTemplate.getMessageConverter();
+        Message<?> message = converter.toMessage(payload, accessor.getMessageHeaders());
+        if (message == null) {
+            throw new IllegalStateException("STOMP 이벤트 직렬화 실패 : " + payload.getClass().getName());
+        }
+        return message;
+    }
+
+    private void send(List<PendingEvent> pendingEvents) {
+        for (PendingEvent event : pendingEvents) {
+            try {
+                messagingTemplate.send(event.destination, event.message);
+            } catch (Exception e) {
+                log.error("stomp event publish -> fail : destination - {}, error - {}", event.destination, e.getMessage());
+            }
+        }
+    }
+
+    private class PendingEventsSynchronization implements TransactionSynchronization {
+
+        private final List<PendingEvent> pendingEvents;
+
+        private PendingEventsSynchronization(List<PendingEvent> pendingEvents) {
+            this.pendingEvents = pendingEvents;
+        }
+
+        @Override
+        public void afterCommit() {
+            List<PendingEvent> events = List.copyOf(pendingEvents);
+            stompEventExecutor.execute(() -> send(events));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(StompEventPublisher.this);
+            if (status != STATUS_COMMITTED && !pendingEvents.isEmpty()) {
+                log.debug("stomp event publish -> rollback, dropped : {}", pendingEvents.size());
+            }
+        }
+    }
+
+    private static class PendingEvent {
+
+        private final String destination;
+
+        private final Message<?> message;
+
+        private PendingEvent(String destination, Message<?> message) {
+            this.destination = destination;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.weup.service;
+
+import com.example.weup.entity.Member;
+import com.example.weup.repository.ChatRoomRepository;
+import com.example.weup.repository.MemberRepository;
+import com.example.weup.util.ExpiringLruCache;
+import com.example.weup.validate.ChatValidator;
+import com.example.weup.validate.MemberValidator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// STOMP 구독 권한 cache (userId -> 참여 중인 projectId / 접근 가능한 chatRoomId)
+// 재접속 시 수십 개 topic 을 다시 구독해도 DB 조회 없이 메모리에서 판단
+// 멤버 삭제 / 초대 / 채팅방 퇴장 시 INVALIDATE_CHANNEL 로 userId 를 발행해 모든 노드의 entry 를 제거한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionAclService implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "stomp:acl:invalidate";
+
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    // invalidate 누락에 대비한 최대 보관 시간
+    private static final long ACL_TTL_MILLIS = 600_000;
+
+    private final MemberRepository memberRepository;
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final MemberValidator memberValidator;
+
+    private final ChatValidator chatValidator;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ExpiringLruCache<Long, UserAcl> cache = new ExpiringLruCache<>(MAX_CACHED_USERS);
+
+    // /topic/project/{projectId} 구독 권한 확인, member id 반환
+    public Long authorizeProject(Long userId, Long projectId) {
+
+        UserAcl acl = getAcl(userId);
+        Long memberId = acl.getProjectMembers().get(projectId);
+        if (memberId != null) {
+            return memberId;
+        }
+
+        // cache 에 없는 경우만 기존 검증으로 확인 (실패 시 예외), 통과하면 cache 에 추가
+        memberId = memberValidator.validateActiveMemberIdInProject(userId, projectId);
+        acl.getProjectMembers().put(projectId, memberId);
+        return memberId;
+    }
+
+    // /topic/chat/** 구독 권한 확인, member id 반환
+    public Long authorizeChatRoom(Long userId, Long chatRoomId) {
+
+        UserAcl acl = getAcl(userId);
+        Long projectId = acl.getChatRoomProjects().get(chatRoomId);
+        if (projectId != null) {
+            Long memberId = acl.getProjectMembers().get(projectId);
+            if (memberId != null) {
+                return memberId;
+            }
+        }
+
+        Long chatRoomProjectId = chatValidator.validateChatRoom(chatRoomId).getProject().getProjectId();
+        Long memberId = authorizeProject(userId, chatRoomProjectId);
+        acl.getChatRoomProjects().put(chatRoomId, chatRoomProjectId);
+        return memberId;
+    }
+
+    // 트랜잭션 안이면 commit 이후에 발행 (commit 전에 다시 load 되어 이전 권한이 남는 것을 방지)
+    public void evict(Long userId) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvict(userId);
+                }
+            });
+            return;
+        }
+
+        publishEvict(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Long userId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        cache.remove(userId);
+        log.debug("subscription acl invalidated, user id : {}", userId);
+    }
+
+    private void publishEvict(Long userId) {
+        cache.remove(userId);
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+    }
+
+    private UserAcl getAcl(Long userId) {
+
+        UserAcl cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        log.debug("subscription acl cache miss, user id : {}", userId);
+        UserAcl acl = new UserAcl(System.currentTimeMillis());
+
+        List<Member> members = memberRepository.findByUser_UserIdAndIsMemberDeletedFalse(userId);
+        for (Member member : members) {
+            acl.getProjectMembers().put(member.getProject().getProjectId(), member.getMemberId());
+        }
+
+        if (!acl.getProjectMembers().isEmpty()) {
+            for (Object[] row : chatRoomRepository.findChatRoomIdsByProjectIdIn(acl.getProjectMembers().keySet())) {
+                acl.getChatRoomProjects().put((Long) row[0], (Long) row[1]);
+            }
+        }
+
+        cache.put(userId, acl, acl.getLoadedAt() + ACL_TTL_MILLIS);
+        return acl;
+    }
+
+    @Getter
+    private static class UserAcl {
+
+        private final long loadedAt;
+
+        // projectId -> memberId
+        private final Map<Long, Long> projectMembers = new ConcurrentHashMap<>();
+
+        // chatRoomId -> projectId
+        private final Map<Long, Long> chatRoomProjects = new ConcurrentHashMap<>();
+
+        private UserAcl(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+    }
+}
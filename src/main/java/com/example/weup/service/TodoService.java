@@ -13,7 +13,6 @@ import com.example.weup.validate.MemberValidator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,13 +25,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TodoService {
 
-    private final S3Service s3Service;
+    private final ImageService imageService;
     private final MemberValidator memberValidator;
     private final ProjectRepository projectRepository;
     private final MemberRepository memberRepository;
     private final TodoRepository todoRepository;
     private final TodoMemberRepository todoMemberRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StompEventPublisher stompEventPublisher;
 
     @Transactional
     public void createTodo(Long userId, CreateTodoRequestDTO createTodoRequestDTO) {
@@ -48,7 +47,7 @@ public class TodoService {
 
         todoRepository.save(todo);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/todo/" + createTodoRequestDTO.getProjectId(),
                 Map.of("createdBy", member.getUser().getName(),
                         "memberId", member.getMemberId())
@@ -60,6 +59,10 @@ public class TodoService {
         Member requestMember = memberValidator.validateActiveMemberInProject(userId, projectId);
 
         List<Todo> todos = todoRepository.findByProject_ProjectId(projectId);
+        Map<String, String> imageUrls = imageService.getImageUrls(todos.stream()
+                .flatMap(todo -> todo.getTodoMembers().stream())
+                .map(tm -> tm.getMember().getUser().getProfileImage())
+                .toList());
 
         return todos.stream()
                 .map(todo -> {
@@ -71,7 +74,7 @@ public class TodoService {
                                 return TodoAssigneeResponseDTO.builder()
                                         .memberId(member.getMemberId())
                                         .name(user.getName())
-                                        .profileImage(s3Service.getPresignedUrl(user.getProfileImage()))
+                                        .profileImage(imageUrls.get(user.getProfileImage()))
                                         .build();
                             })
                             .collect(Collectors.toList());
@@ -129,7 +132,7 @@ public class TodoService {
                     .forEach(todoMemberRepository::save);
         }
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/todo/" + todo.getProject().getProjectId(),
                 Map.of("editedBy", requestMember.getUser().getName(),
                         "memberId", requestMember.getMemberId())
@@ -153,7 +156,7 @@ public class TodoService {
         todo.changeStatus(editTodoStatusRequestDTO.getStatus());
         todoRepository.save(todo);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/todo/" + todo.getProject().getProjectId(),
                 Map.of("editedBy", member.getUser().getName(),
                         "memberId", member.getMemberId())
@@ -172,7 +175,7 @@ public class TodoService {
 
         todoRepository.deleteById(todoId);
 
-        messagingTemplate.convertAndSend(
+        stompEventPublisher.publish(
                 "/topic/todo/" + todo.getProject().getProjectId(),
                 Map.of("deletedBy", member.getUser().getName(),
                         "memberId", member.getMemberId())
@@ -0,0 +1,68 @@
+package com.example.weup.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방 / 유저별 읽지 않은 메시지 수
+// 채팅방 메시지 순번(messageSeq)은 메시지 저장 script 에서 증가, 유저가 마지막으로 읽은 순번(readSeq)은 lastReadAt 저장 시 갱신
+// 읽지 않은 메시지 수 = messageSeq - readSeq
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    private static final String MESSAGE_SEQ_KEY = "chatroom:%s:messageSeq";
+
+    private static final String READ_SEQ_KEY = "user:%s:chatroom:readSeq";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String getMessageSeqKey(Long chatRoomId) {
+        return String.format(MESSAGE_SEQ_KEY, chatRoomId);
+    }
+
+    // 현재까지의 메시지를 모두 읽음 처리
+    public void markAllRead(Long chatRoomId, Long userId) {
+        String messageSeq = redisTemplate.opsForValue().get(getMessageSeqKey(chatRoomId));
+        redisTemplate.opsForHash().put(String.format(READ_SEQ_KEY, userId), String.valueOf(chatRoomId), messageSeq != null ? messageSeq : "0");
+    }
+
+    // 채팅방 목록의 읽지 않은 메시지 수를 한 번에 조회, readSeq 가 없는 채팅방(전환 이후 입장 기록 없음)은 결과에서 제외
+    public Map<Long, Long> getUnreadCounts(Long userId, List<Long> chatRoomIds) {
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        if (chatRoomIds.isEmpty()) {
+            return unreadCounts;
+        }
+
+        List<String> messageSeqs = redisTemplate.opsForValue().multiGet(chatRoomIds.stream().map(this::getMessageSeqKey).toList());
+        List<Object> readSeqs = redisTemplate.opsForHash().multiGet(String.format(READ_SEQ_KEY, userId),
+                chatRoomIds.stream().map(chatRoomId -> (Object) String.valueOf(chatRoomId)).toList());
+
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            Object readSeq = readSeqs.get(i);
+            if (readSeq == null) continue;
+
+            String messageSeq = messageSeqs != null ? messageSeqs.get(i) : null;
+            long unreadCount = (messageSeq != null ? Long.parseLong(messageSeq) : 0L) - Long.parseLong((String) readSeq);
+            unreadCounts.put(chatRoomIds.get(i), Math.max(unreadCount, 0L));
+        }
+
+        return unreadCounts;
+    }
+
+    // 채팅방 퇴장
+    public void removeMember(Long chatRoomId, Long userId) {
+        redisTemplate.opsForHash().delete(String.format(READ_SEQ_KEY, userId), String.valueOf(chatRoomId));
+    }
+
+    public void deleteChatRoom(Long chatRoomId) {
+        redisTemplate.delete(getMessageSeqKey(chatRoomId));
+    }
+}
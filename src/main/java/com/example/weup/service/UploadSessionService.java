@@ -0,0 +1,254 @@
+package com.example.weup.service;
+
+import com.example.weup.GeneralException;
+import com.example.weup.constant.ErrorInfo;
+import com.example.weup.constant.UploadPurpose;
+import com.example.weup.dto.request.CreateUploadSessionRequestDTO;
+import com.example.weup.dto.response.FileFullResponseDTO;
+import com.example.weup.dto.response.UploadSessionResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// client -> storage 직접 업로드 (앱 서버를 거치지 않음)
+// 1. 세션 생성 : presigned PUT url 발급, 세션 정보는 redis 에 SESSION_TTL 동안 보관
+// 2. client 가 url 로 직접 업로드
+// 3. 게시글 / 채팅 요청에 uploadSessionId 를 넘기면 업로드된 object 의 크기 / 형식을 확인하고 사용 표시 (claim)
+// 4. DB 저장이 commit 된 뒤에만 세션을 삭제, 실패하면 사용 표시만 풀어서 다시 시도할 수 있게 함
+// 사용되지 않고 만료된 세션의 object 는 cleanupAbandonedUploads 가 삭제
+@Slf4j
+@Service
+public class UploadSessionService {
+
+    private static final String UPLOAD_SESSION_KEY = "upload:session:%s";
+
+    private static final String PENDING_UPLOADS_KEY = "upload:session:pending";
+
+    private static final String CLAIMED_FIELD = "claimed";
+
+    private static final Duration UPLOAD_URL_DURATION = Duration.ofMinutes(10);
+
+    private static final Duration SESSION_TTL = Duration.ofMinutes(15);
+
+    private static final long CLEANUP_INTERVAL_MILLIS = 600_000;
+
+    private final S3Service s3Service;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RedisScript<Long> claimUploadSessionScript;
+
+    private final long maxFileSize;
+
+    public UploadSessionService(S3Service s3Service, StringRedisTemplate redisTemplate, RedisScript<Long> claimUploadSessionScript,
+                                @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxFileSize) {
+        this.s3Service = s3Service;
+        this.redisTemplate = redisTemplate;
+        this.claimUploadSessionScript = claimUploadSessionScript;
+        this.maxFileSize = maxFileSize.toBytes();
+    }
+
+    public UploadSessionResponseDTO createSession(Long userId, CreateUploadSessionRequestDTO createUploadSessionRequestDTO) {
+        if (createUploadSessionRequestDTO.getFileSize() > maxFileSize) {
+            throw new GeneralException(ErrorInfo.FILE_TOO_LARGE);
+        }
+
+        // 채팅 이미지는 세션을 만들 때 형식 확인 (업로드 후에 버리지 않도록)
+        if (createUploadSessionRequestDTO.getPurpose() == UploadPurpose.CHAT_IMAGE
+                && !createUploadSessionRequestDTO.getContentType().startsWith("image/")) {
+            throw new GeneralException(ErrorInfo.INVALID_IMAGE_TYPE);
+        }
+
+        String originalFileName = Paths.get(createUploadSessionRequestDTO.getFileName()).getFileName().toString();
+        String storedFileName = UUID.randomUUID() + "-" + originalFileName;
+        String uploadSessionId = UUID.randomUUID().toString();
+
+        String uploadUrl = s3Service.presignPut(storedFileName, createUploadSessionRequestDTO.getContentType(),
+                createUploadSessionRequestDTO.getFileSize(), UPLOAD_URL_DURATION);
+
+        String sessionKey = String.format(UPLOAD_SESSION_KEY, uploadSessionId);
+        redisTemplate.opsForHash().putAll(sessionKey, Map.of(
+                "userId", String.valueOf(userId),
+                "storedFileName", storedFileName,
+                "originalFileName", originalFileName,
+                "contentType", createUploadSessionRequestDTO.getContentType(),
+                "fileSize", String.valueOf(createUploadSessionRequestDTO.getFileSize()),
+                "purpose", createUploadSessionRequestDTO.getPurpose().name()));
+        redisTemplate.expire(sessionKey, SESSION_TTL);
+        redisTemplate.opsForZSet().add(PENDING_UPLOADS_KEY, storedFileName,
+                Instant.now().plus(SESSION_TTL).toEpochMilli());
+
+        log.info("create upload session -> success : user id - {}, stored file name - {}", userId, storedFileName);
+
+        return UploadSessionResponseDTO.builder()
+                .uploadSessionId(uploadSessionId)
+                .uploadUrl(uploadUrl)
+                .storedFileName(storedFileName)
+                .expiresAt(Instant.now().plus(UPLOAD_URL_DURATION))
+                .build();
+    }
+
+    // 업로드 결과 확인만 함, 세션은 그대로 남아서 게시글 / 채팅 요청에 사용할 수 있음
+    public FileFullResponseDTO verify(Long userId, String uploadSessionId) {
+        return verifySession(userId, uploadSessionId, UploadPurpose.BOARD_FILE);
+    }
+
+    // 모든 세션을 먼저 확인한 뒤 사용 표시, 하나라도 실패하면 이미 표시한 세션은 되돌림
+    // 성공하면 호출한 쪽에서 DB 저장 후 finishAll, 실패 시 releaseAll 을 반드시 호출
+    public List<FileFullResponseDTO> claimAll(Long userId, Collection<String> uploadSessionIds, UploadPurpose purpose) {
+        if (uploadSessionIds == null || uploadSessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> distinctSessionIds = new LinkedHashSet<>(uploadSessionIds);
+        List<FileFullResponseDTO> verifiedFiles = new ArrayList<>();
+        for (String uploadSessionId : distinctSessionIds) {
+            verifiedFiles.add(verifySession(userId, uploadSessionId, purpose));
+        }
+
+        List<String> claimedSessionIds = new ArrayList<>();
+        int index = 0;
+        for (String uploadSessionId : distinctSessionIds) {
+            Long claimed = redisTemplate.execute(claimUploadSessionScript,
+                    List.of(String.format(UPLOAD_SESSION_KEY, uploadSessionId), PENDING_UPLOADS_KEY),
+                    verifiedFiles.get(index++).getStoredFileName(),
+                    String.valueOf(SESSION_TTL.toMillis()),
+                    String.valueOf(Instant.now().plus(SESSION_TTL).toEpochMilli()));
+
+            if (claimed == null || claimed != 1) {
+                releaseAll(claimedSessionIds);
+                throw new GeneralException(claimed != null && claimed == 0 ? ErrorInfo.UPLOAD_SESSION_IN_USE : ErrorInfo.UPLOAD_SESSION_NOT_FOUND);
+            }
+            claimedSessionIds.add(uploadSessionId);
+        }
+
+        return verifiedFiles;
+    }
+
+    // 현재 트랜잭션 안에서 사용, commit 되면 세션 삭제 / rollback 되면 사용 표시 해제
+    public FileFullResponseDTO claimUntilCompletion(Long userId, String uploadSessionId, UploadPurpose purpose) {
+        List<String> uploadSessionIds = List.of(uploadSessionId);
+        FileFullResponseDTO claimedFile = claimAll(userId, uploadSessionIds, purpose).get(0);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finishAll(uploadSessionIds);
+            return claimedFile;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    finishAll(uploadSessionIds);
+                } else {
+                    releaseAll(uploadSessionIds);
+                }
+            }
+        });
+        return claimedFile;
+    }
+
+    // DB 저장이 commit 된 세션 정리, object 는 File / 채팅 메시지가 소유하므로 정리 대상에서 제외
+    public void finishAll(Collection<String> uploadSessionIds) {
+        if (uploadSessionIds == null || uploadSessionIds.isEmpty()) {
+            return;
+        }
+
+        for (String uploadSessionId : new LinkedHashSet<>(uploadSessionIds)) {
+            String sessionKey = String.format(UPLOAD_SESSION_KEY, uploadSessionId);
+            Object storedFileName = redisTemplate.opsForHash().get(sessionKey, "storedFileName");
+            if (storedFileName != null) {
+                redisTemplate.opsForZSet().remove(PENDING_UPLOADS_KEY, storedFileName);
+            }
+            redisTemplate.delete(sessionKey);
+        }
+    }
+
+    // DB 저장 실패, 사용 표시만 풀어서 같은 세션으로 다시 시도할 수 있게 함 (사용되지 않으면 만료 후 정리)
+    public void releaseAll(Collection<String> uploadSessionIds) {
+        if (uploadSessionIds == null || uploadSessionIds.isEmpty()) {
+            return;
+        }
+
+        for (String uploadSessionId : new LinkedHashSet<>(uploadSessionIds)) {
+            redisTemplate.opsForHash().delete(String.format(UPLOAD_SESSION_KEY, uploadSessionId), CLAIMED_FIELD);
+        }
+    }
+
+    // 크기 / 형식이 다르면 세션을 유지해서 다시 업로드할 수 있게 함
+    private FileFullResponseDTO verifySession(Long userId, String uploadSessionId, UploadPurpose purpose) {
+        String sessionKey = String.format(UPLOAD_SESSION_KEY, uploadSessionId);
+        Map<Object, Object> session = redisTemplate.opsForHash().entries(sessionKey);
+        if (session.isEmpty()) {
+            throw new GeneralException(ErrorInfo.UPLOAD_SESSION_NOT_FOUND);
+        }
+
+        if (!String.valueOf(userId).equals(session.get("userId"))) {
+            throw new GeneralException(ErrorInfo.FORBIDDEN);
+        }
+
+        // 게시글 첨부는 용도와 관계없이 사용 가능, 채팅 이미지는 이미지로 만든 세션만 사용
+        if (purpose == UploadPurpose.CHAT_IMAGE && !UploadPurpose.CHAT_IMAGE.name().equals(session.get("purpose"))) {
+            throw new GeneralException(ErrorInfo.INVALID_IMAGE_TYPE);
+        }
+
+        String storedFileName = (String) session.get("storedFileName");
+        String contentType = (String) session.get("contentType");
+        long fileSize = Long.parseLong((String) session.get("fileSize"));
+
+        HeadObjectResponse uploadedObject = s3Service.headFile(storedFileName);
+        if (uploadedObject == null
+                || uploadedObject.contentLength() == null
+                || uploadedObject.contentLength() != fileSize
+                || !contentType.equals(uploadedObject.contentType())) {
+            log.warn("verify upload session -> fail : user id - {}, stored file name - {}", userId, storedFileName);
+            throw new GeneralException(ErrorInfo.UPLOAD_NOT_COMPLETED);
+        }
+
+        return FileFullResponseDTO.builder()
+                .originalFileName((String) session.get("originalFileName"))
+                .storedFileName(storedFileName)
+                .fileSize(fileSize)
+                .fileType(contentType)
+                .build();
+    }
+
+    // 만료될 때까지 사용되지 않은 세션의 object 삭제, ZREM 에 성공한 노드만 삭제
+    @Scheduled(fixedDelay = CLEANUP_INTERVAL_MILLIS)
+    public void cleanupAbandonedUploads() {
+        Set<String> abandonedFileNames = redisTemplate.opsForZSet()
+                .rangeByScore(PENDING_UPLOADS_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        if (abandonedFileNames == null || abandonedFileNames.isEmpty()) {
+            return;
+        }
+
+        List<String> claimedFileNames = new ArrayList<>();
+        for (String fileName : abandonedFileNames) {
+            Long removed = redisTemplate.opsForZSet().remove(PENDING_UPLOADS_KEY, fileName);
+            if (removed != null && removed > 0) {
+                claimedFileNames.add(fileName);
+            }
+        }
+
+        s3Service.deleteFiles(claimedFileNames);
+        log.info("cleanup abandoned uploads -> deleted : {}", claimedFileNames.size());
+    }
+}
@@ -8,6 +8,7 @@ import com.example.weup.entity.*;
 import com.example.weup.repository.*;
 import com.example.weup.security.JwtDto;
 import com.example.weup.security.JwtUtil;
+import com.example.weup.validate.MembershipCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,10 +41,15 @@ public class UserService {
     private final MailService mailService;
 
     private final S3Service s3Service;
+    private final ImageService imageService;
     private final ProjectService projectService;
     private final NotificationRepository notificationRepository;
     private final MemberRoleRepository memberRoleRepository;
 
+    private final MembershipCache membershipCache;
+
+    private final SubscriptionAclService subscriptionAclService;
+
     @Value("${user.default-profile-image}")
     private String defaultProfileImage;
 
@@ -79,7 +85,7 @@ public class UserService {
         return GetProfileResponseDTO.builder()
                 .name(user.getName())
                 .email(user.getAccountSocial().getEmail())
-                .profileImage(s3Service.getPresignedUrl(user.getProfileImage()))
+                .profileImage(imageService.getImageUrl(user.getProfileImage()))
                 .phoneNumber(user.getPhoneNumber())
                 .build();
     }
@@ -136,11 +142,11 @@ public class UserService {
 
         if (profileEditRequestDTO.getProfileImage() != null && !profileEditRequestDTO.getProfileImage().isEmpty()) {
             String existingImage = user.getProfileImage();
-            if (existingImage != null && !existingImage.isEmpty()) {
+            if (existingImage != null && !existingImage.isEmpty() && !imageService.isContentAddressed(existingImage)) {
                 s3Service.deleteFile(existingImage);
             }
 
-            String storedFileName = s3Service.uploadSingleFile(profileEditRequestDTO.getProfileImage()).getStoredFileName();
+            String storedFileName = imageService.uploadImage(profileEditRequestDTO.getProfileImage());
             user.updateProfileImage(storedFileName);
         }
     }
@@ -166,6 +172,7 @@ public class UserService {
                 Member nextLeader = nextLeaderOpt.get();
                 nextLeader.promoteToLeader();
                 leader.demoteFromLeader();
+                membershipCache.evict(nextLeader.getUser().getUserId(), project.getProjectId());
             } else {
                 projectService.deleteProject(userId, project.getProjectId());
             }
@@ -178,6 +185,9 @@ public class UserService {
             memberRoleRepository.deleteAll(memberRoleList);
         }
 
+        membershipCache.evictUser(userId);
+        subscriptionAclService.evict(userId);
+
         List<Notification> NotificationList = notificationRepository.findAllByUser_UserId(userId);
         notificationRepository.deleteAll(NotificationList);
     }
@@ -3,7 +3,6 @@ package com.example.weup.validate;
 import com.example.weup.GeneralException;
 import com.example.weup.constant.ErrorInfo;
 import com.example.weup.entity.ChatRoom;
-import com.example.weup.entity.Member;
 import com.example.weup.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,10 +23,10 @@ public class ChatValidator {
                 .orElseThrow(() -> new GeneralException(ErrorInfo.CHAT_ROOM_NOT_FOUND));
     }
 
-    public Member validateMemberInChatRoomSession(Long chatRoomId, Long userId) {
+    public Long validateMemberIdInChatRoomSession(Long chatRoomId, Long userId) {
         log.debug("chat validator - validate member in chat room session IN");
         ChatRoom chatRoom = validateChatRoom(chatRoomId);
-        return memberValidator.validateActiveMemberInProject(userId, chatRoom.getProject().getProjectId());
+        return memberValidator.validateActiveMemberIdInProject(userId, chatRoom.getProject().getProjectId());
     }
 
 }
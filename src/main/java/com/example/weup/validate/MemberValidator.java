@@ -23,12 +23,31 @@ public class MemberValidator {
 
     private final ProjectValidator projectValidator;
 
+    private final MembershipCache membershipCache;
+
+    // Member 의 필드 (user, project, leader 등) 가 필요한 경우, cache 가 있으면 PK 로 조회 (같은 영속성 컨텍스트면 조회 없음)
     public Member validateActiveMemberInProject(Long userId, Long projectId) {
         log.debug("member validator - validate active member in project : {}", projectId);
+
+        MembershipCache.Membership membership = membershipCache.get(userId, projectId);
+        if (membership != null) {
+            if (membership.isDeleted()) {
+                throw new GeneralException(ErrorInfo.DELETED_MEMBER);
+            }
+
+            // cache 이후에 멤버가 삭제된 경우 (프로젝트 영구 삭제 등) 는 cache 를 지우고 다시 확인
+            Member member = memberRepository.findById(membership.getMemberId()).orElse(null);
+            if (member != null && !member.isMemberDeleted()) {
+                return member;
+            }
+            membershipCache.evict(userId, projectId);
+        }
+
         Member member = memberRepository.findByUser_UserIdAndProject_ProjectId(userId, projectId)
                 .orElseThrow(() -> new GeneralException(ErrorInfo.NOT_IN_PROJECT));
+        membershipCache.put(userId, projectId, member.getMemberId(), member.isLeader(), member.isMemberDeleted());
 
-        if (isDeletedMember(member.getMemberId())) {
+        if (member.isMemberDeleted()) {
             throw new GeneralException(ErrorInfo.DELETED_MEMBER);
         }
 
@@ -36,6 +55,20 @@ public class MemberValidator {
         return member;
     }
 
+    // 권한 확인 / member id 만 필요한 경우, cache 가 있으면 조회 없이 판단
+    public Long validateActiveMemberIdInProject(Long userId, Long projectId) {
+
+        MembershipCache.Membership membership = membershipCache.get(userId, projectId);
+        if (membership != null) {
+            if (membership.isDeleted()) {
+                throw new GeneralException(ErrorInfo.DELETED_MEMBER);
+            }
+            return membership.getMemberId();
+        }
+
+        return validateActiveMemberInProject(userId, projectId).getMemberId();
+    }
+
     public void validateBoardWriter(Board board, Member member) {
         if (!board.getMember().getMemberId().equals(member.getMemberId())) {
             throw new GeneralException(ErrorInfo.NOT_WRITER);
@@ -43,6 +76,14 @@ public class MemberValidator {
     }
 
     public void isLeader(Long userId, Project project) {
+        MembershipCache.Membership membership = membershipCache.get(userId, project.getProjectId());
+        if (membership != null && !membership.isDeleted()) {
+            if (!membership.isLeader()) {
+                throw new GeneralException(ErrorInfo.NOT_LEADER);
+            }
+            return;
+        }
+
         Member targetMember = validateActiveMemberInProject(userId, project.getProjectId());
 
         if(!targetMember.isLeader()) {
@@ -63,7 +104,7 @@ public class MemberValidator {
 
         projectValidator.validateActiveProject(member.getProject().getProjectId());
 
-        if (isDeletedMember(member.getMemberId())) {
+        if (member.isMemberDeleted()) {
             throw new GeneralException(ErrorInfo.DELETED_MEMBER);
         }
 
@@ -0,0 +1,159 @@
+package com.example.weup.validate;
+
+import com.example.weup.util.ExpiringLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+// (userId, projectId) -> (memberId, isLeader, deleted) near-cache
+// 멤버 삭제 / 재참여 / 리더 변경 / 회원 탈퇴 시 INVALIDATE_CHANNEL 로 "userId:projectId" (탈퇴는 "userId:*") 를 발행해 모든 노드에서 제거
+// cache.gets (counter, tag : cache, result = hit / miss), cache.size (gauge, tag : cache) 로 Micrometer 에 등록
+@Slf4j
+@Component
+public class MembershipCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "member:membership:invalidate";
+
+    private static final String ALL_PROJECTS = "*";
+
+    private static final int MAX_CACHED_MEMBERSHIPS = 50_000;
+
+    private static final long MEMBERSHIP_TTL_MILLIS = 300_000;
+
+    private static final long STATS_LOG_INTERVAL_MILLIS = 300_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final ExpiringLruCache<String, Membership> cache = new ExpiringLruCache<>(MAX_CACHED_MEMBERSHIPS);
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public MembershipCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+                .description("멤버십 cache 조회 수")
+                .tag("cache", "membership")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+                .description("멤버십 cache 조회 수")
+                .tag("cache", "membership")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, ExpiringLruCache::size)
+                .description("멤버십 cache entry 수")
+                .tag("cache", "membership")
+                .register(meterRegistry);
+    }
+
+    // 만료되지 않은 cache 가 있으면 반환, 없으면 null
+    public Membership get(Long userId, Long projectId) {
+
+        Membership membership = cache.get(key(userId, projectId));
+        if (membership != null) {
+            hitCount.increment();
+            return membership;
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    public void put(Long userId, Long projectId, Long memberId, boolean leader, boolean deleted) {
+
+        long loadedAt = System.currentTimeMillis();
+        cache.put(key(userId, projectId), new Membership(memberId, leader, deleted, loadedAt), loadedAt + MEMBERSHIP_TTL_MILLIS);
+    }
+
+    public void evict(Long userId, Long projectId) {
+        publishAfterCommit(key(userId, projectId));
+    }
+
+    // 회원 탈퇴 등 유저의 모든 프로젝트 멤버십 제거
+    public void evictUser(Long userId) {
+        publishAfterCommit(userId + ":" + ALL_PROJECTS);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remove(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Scheduled(fixedDelay = STATS_LOG_INTERVAL_MILLIS)
+    public void evictExpiredAndLogStats() {
+        cache.evictExpired();
+        log.info("membership cache -> size : {}, hit : {}, miss : {}", cache.size(), getHitCount(), getMissCount());
+    }
+
+    // 트랜잭션 안이면 commit 이후에 제거 / 발행 (commit 전에 다시 load 되어 이전 상태가 남는 것을 방지)
+    private void publishAfterCommit(String payload) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(payload);
+                }
+            });
+            return;
+        }
+
+        publish(payload);
+    }
+
+    private void publish(String payload) {
+        remove(payload);
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, payload);
+    }
+
+    private void remove(String payload) {
+        if (payload.endsWith(":" + ALL_PROJECTS)) {
+            String userPrefix = payload.substring(0, payload.length() - ALL_PROJECTS.length());
+            cache.removeIf(key -> key.startsWith(userPrefix));
+        } else {
+            cache.remove(payload);
+        }
+        log.debug("membership cache invalidated : {}", payload);
+    }
+
+    private String key(Long userId, Long projectId) {
+        return userId + ":" + projectId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Membership {
+
+        private final Long memberId;
+
+        private final boolean leader;
+
+        private final boolean deleted;
+
+        private final long loadedAt;
+    }
+}
@@ -0,0 +1,20 @@
+-- 업로드 세션 사용 표시 (게시글 / 채팅 저장 트랜잭션 동안)
+-- KEYS[1] : upload:session:{uploadSessionId}
+-- KEYS[2] : upload:session:pending
+-- ARGV[1] : stored file name
+-- ARGV[2] : 세션 TTL (milli), 사용 중에 세션이 만료되지 않도록 연장
+-- ARGV[3] : 새 정리 시각 (epoch milli), 사용 중에 정리 대상이 되지 않도록 연장
+-- return  : 1 성공, 0 이미 다른 요청이 사용 중, -1 세션 없음
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+if redis.call('HSETNX', KEYS[1], 'claimed', '1') == 0 then
+    return 0
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+redis.call('ZADD', KEYS[2], 'XX', ARGV[3], ARGV[1])
+
+return 1
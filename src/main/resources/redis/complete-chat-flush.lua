@@ -0,0 +1,27 @@
+-- 채팅 flush 완료 처리
+-- watermark 이하 메시지만 제거하고, 채팅방이 비었을 때만 dirty room set 에서 제거한다.
+--
+-- KEYS[1]    : chat:room:{chatRoomId}
+-- KEYS[2]    : chat:flush:dirtyRooms
+-- KEYS[3]    : chat:flush:watermarks
+-- KEYS[4...] : flush 된 메시지의 chat:{uuid}:readUsers
+--
+-- ARGV[1] : watermark score (이하 메시지 제거)
+-- ARGV[2] : chat room id
+--
+-- return : 남아 있는 메시지 수
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+
+for i = 4, #KEYS do
+    redis.call('DEL', KEYS[i])
+end
+
+redis.call('HDEL', KEYS[3], ARGV[2])
+
+local remaining = redis.call('ZCARD', KEYS[1])
+if remaining == 0 then
+    redis.call('SREM', KEYS[2], ARGV[2])
+end
+
+return remaining
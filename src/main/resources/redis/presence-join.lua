@@ -0,0 +1,13 @@
+-- 채팅방 presence 참여 (탭 / 세션 단위 ref count)
+-- KEYS[1] : chatroom:{chatRoomId}:{kind}:refs      (memberId -> 참여 중인 세션 수)
+-- KEYS[2] : chatroom:{chatRoomId}:{kind}:presence   (ref count 가 1 이상인 member set)
+-- KEYS[3] : ws:node:{nodeId}:presence               (노드별 기여분, reaper 가 사용)
+-- ARGV[1] : member id
+-- ARGV[2] : node presence field ({kind}:{chatRoomId}:{memberId})
+-- return  : 참여 후 member 의 ref count
+
+local refs = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('HINCRBY', KEYS[3], ARGV[2], 1)
+
+return refs
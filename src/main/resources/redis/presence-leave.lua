@@ -0,0 +1,33 @@
+-- 채팅방 presence 이탈 (세션 종료, 구독 해제, 죽은 노드 정리)
+-- KEYS[1] : chatroom:{chatRoomId}:{kind}:refs
+-- KEYS[2] : chatroom:{chatRoomId}:{kind}:presence
+-- KEYS[3] : ws:node:{nodeId}:presence
+-- ARGV[1] : member id
+-- ARGV[2] : node presence field ({kind}:{chatRoomId}:{memberId})
+-- ARGV[3] : 감소시킬 ref 수 (세션 1, reaper 는 노드 기여분 전체)
+-- return  : 이탈 후 member 의 ref count (0 이면 members set 에서 제거됨)
+--           노드 기여분이 없으면 아무것도 바꾸지 않고 -1 (다른 세션 / 노드의 ref 를 빼지 않음)
+
+local nodeRefs = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+if nodeRefs <= 0 then
+    redis.call('HDEL', KEYS[3], ARGV[2])
+    return -1
+end
+
+-- 노드가 기여한 만큼만 감소
+local count = math.min(tonumber(ARGV[3]), nodeRefs)
+
+if nodeRefs - count <= 0 then
+    redis.call('HDEL', KEYS[3], ARGV[2])
+else
+    redis.call('HINCRBY', KEYS[3], ARGV[2], -count)
+end
+
+local refs = redis.call('HINCRBY', KEYS[1], ARGV[1], -count)
+if refs <= 0 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('SREM', KEYS[2], ARGV[1])
+    return 0
+end
+
+return refs
@@ -0,0 +1,11 @@
+-- lock 해제 (자신이 잡은 lock 일 때만 삭제)
+-- TTL 이 지나 다른 노드가 다시 잡은 lock 을 지우지 않도록 값 비교와 삭제를 한 번에 실행
+-- KEYS[1] : lock key
+-- ARGV[1] : lock 을 잡을 때 저장한 token
+-- return  : 1 삭제, 0 다른 token (삭제하지 않음)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,101 @@
+-- 채팅 메시지 저장 (단일 round-trip)
+-- 마지막 메시지 조회, 날짜 구분 메시지 판단, ZADD, 읽음 watermark 갱신을 원자적으로 수행한다.
+--
+-- KEYS[1] : chat:room:{chatRoomId}
+-- KEYS[2] : chatroom:{chatRoomId}:active:presence
+-- KEYS[3] : chat:{uuid}:readUsers              (저장할 메시지, legacy 읽음 처리)
+-- KEYS[4] : chat:{dateChangeUuid}:readUsers    (날짜 구분 메시지, legacy 읽음 처리)
+-- KEYS[5] : chat:flush:dirtyRooms              (flush 대상 채팅방 set)
+-- KEYS[6] : chatroom:{chatRoomId}:readWatermarks
+-- KEYS[7] : chatroom:{chatRoomId}:messageSeq     (읽지 않은 메시지 수 계산용 순번)
+--
+-- ARGV[1]  : 저장할 메시지 json
+-- ARGV[2]  : 저장할 메시지 score (epoch milli)
+-- ARGV[3]  : sender type
+-- ARGV[4]  : sender member id ('' 이면 없음)
+-- ARGV[5]  : display type 비교 시각 (yyyy-MM-ddTHH:mm, '' 이면 없음)
+-- ARGV[6]  : 날짜 구분 메시지 json
+-- ARGV[7]  : 날짜 구분 메시지 score (epoch milli)
+-- ARGV[8]  : 현재 메시지 날짜 (yyyy-MM-dd)
+-- ARGV[9]  : 마지막 메시지 fallback 모드 ('0' = 미조회, '1' = MySQL 값 전달, '2' = MySQL 에도 없음)
+-- ARGV[10] : fallback sender type
+-- ARGV[11] : fallback member id
+-- ARGV[12] : fallback sentAt (yyyy-MM-ddTHH:mm)
+-- ARGV[13] : 마지막 메시지 cache invalidate channel
+-- ARGV[14] : 마지막 메시지 cache invalidate payload (nodeId:chatRoomId)
+-- ARGV[15] : chat room id
+-- ARGV[16] : legacy 메시지별 읽음 set 기록 여부 ('1' / '0')
+--
+-- return : { 'MISS' } - Redis 가 비어 있고 fallback 이 전달되지 않은 경우
+--          { displayType, dateChangeInserted(0/1), readMemberCount }
+
+local function toMinute(sentAt)
+    if type(sentAt) == 'table' then
+        return string.format('%04d-%02d-%02dT%02d:%02d', sentAt[1], sentAt[2], sentAt[3], sentAt[4] or 0, sentAt[5] or 0)
+    end
+    return string.sub(sentAt, 1, 16)
+end
+
+local last
+local tail = redis.call('ZRANGE', KEYS[1], -1, -1)
+if #tail > 0 then
+    local lastMessage = cjson.decode(tail[1])
+    local memberId = lastMessage['memberId']
+    last = {
+        senderType = lastMessage['senderType'],
+        memberId = (memberId ~= nil and memberId ~= cjson.null) and tostring(memberId) or '',
+        minute = toMinute(lastMessage['sentAt'])
+    }
+elseif ARGV[9] == '0' then
+    return { 'MISS' }
+elseif ARGV[9] == '1' then
+    last = { senderType = ARGV[10], memberId = ARGV[11], minute = ARGV[12] }
+end
+
+local dateChangeInserted = 0
+if last == nil or string.sub(last.minute, 1, 10) ~= ARGV[8] then
+    redis.call('ZADD', KEYS[1], ARGV[7], ARGV[6])
+    if ARGV[16] == '1' then
+        redis.call('SUNIONSTORE', KEYS[4], KEYS[4], KEYS[2])
+    end
+    dateChangeInserted = 1
+end
+
+local displayType = 'DEFAULT'
+if dateChangeInserted == 0 and ARGV[3] ~= 'SYSTEM' then
+    local sameSender
+    if last.senderType == 'MEMBER' then
+        sameSender = last.memberId ~= '' and last.memberId == ARGV[4]
+    else
+        sameSender = last.senderType == ARGV[3]
+    end
+
+    if sameSender then
+        displayType = (last.minute == ARGV[5]) and 'SAME_TIME' or 'SAME_SENDER'
+    end
+end
+
+local message = cjson.decode(ARGV[1])
+message['displayType'] = displayType
+redis.call('ZADD', KEYS[1], ARGV[2], cjson.encode(message))
+redis.call('SADD', KEYS[5], ARGV[15])
+
+-- 보낸 사람은 자신의 메시지까지 읽은 것으로 watermark 를 올림 (active 상태면 이미 더 큼)
+if ARGV[3] == 'MEMBER' and ARGV[4] ~= '' then
+    local watermark = redis.call('ZSCORE', KEYS[6], ARGV[4])
+    if not watermark or tonumber(watermark) < tonumber(ARGV[2]) then
+        redis.call('ZADD', KEYS[6], ARGV[2], ARGV[4])
+    end
+
+    if ARGV[16] == '1' then
+        redis.call('SADD', KEYS[3], ARGV[4])
+    end
+end
+
+if ARGV[16] == '1' then
+    redis.call('SUNIONSTORE', KEYS[3], KEYS[3], KEYS[2])
+end
+redis.call('INCRBY', KEYS[7], 1 + dateChangeInserted)
+redis.call('PUBLISH', ARGV[13], ARGV[14])
+
+return { displayType, dateChangeInserted, redis.call('ZCOUNT', KEYS[6], ARGV[2], '+inf') }
@@ -0,0 +1,128 @@
+package com.example.weup.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomEntryExecutorTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ChatRoomEntryExecutor chatRoomEntryExecutor = new ChatRoomEntryExecutor(meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chatRoomEntryExecutor.shutdown();
+    }
+
+    @Test
+    void tasksOfSameRoomRunInSubmittedOrder() throws InterruptedException {
+        int taskCount = 200;
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            int order = i;
+            chatRoomEntryExecutor.submit(1L, () -> {
+                executed.add(order);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, taskCount).boxed().toList());
+    }
+
+    @Test
+    void tasksOfEachRoomKeepTheirOwnOrder() throws InterruptedException {
+        int roomCount = 10;
+        int taskCount = 50;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(roomCount * taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            for (long roomId = 1; roomId <= roomCount; roomId++) {
+                long chatRoomId = roomId;
+                int order = i;
+                chatRoomEntryExecutor.submit(chatRoomId, () -> {
+                    executed.computeIfAbsent(chatRoomId, id -> Collections.synchronizedList(new ArrayList<>())).add(order);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasSize(roomCount);
+        executed.values().forEach(orders ->
+                assertThat(orders).containsExactlyElementsOf(IntStream.range(0, taskCount).boxed().toList()));
+    }
+
+    @Test
+    void failedTaskDoesNotBlockNextTasks() throws InterruptedException {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+
+        chatRoomEntryExecutor.submit(1L, () -> executed.add("join"));
+        chatRoomEntryExecutor.submit(1L, () -> {
+            throw new IllegalStateException("redis down");
+        });
+        chatRoomEntryExecutor.submit(1L, () -> {
+            throw new AssertionError("unexpected error");
+        });
+        chatRoomEntryExecutor.submit(1L, () -> {
+            executed.add("leave");
+            done.countDown();
+        });
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("join", "leave");
+
+        // 마지막 작업의 완료 집계까지 끝나도록 종료 대기
+        chatRoomEntryExecutor.shutdown();
+        assertThat(chatRoomEntryExecutor.getFailedCount()).isEqualTo(2);
+        assertThat(chatRoomEntryExecutor.getCompletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedTaskReleasesPendingPermit() throws InterruptedException {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        chatRoomEntryExecutor.shutdown();
+
+        chatRoomEntryExecutor.submit(1L, () -> executed.add("join"));
+
+        assertThat(executed).isEmpty();
+        assertThat(chatRoomEntryExecutor.getRejectedCount()).isEqualTo(1);
+        assertThat(chatRoomEntryExecutor.getPendingCount()).isZero();
+    }
+
+    @Test
+    void statsAreExportedAsMeters() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        chatRoomEntryExecutor.submit(1L, () -> {
+            throw new IllegalStateException("redis down");
+        });
+        chatRoomEntryExecutor.submit(1L, done::countDown);
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        chatRoomEntryExecutor.shutdown();
+
+        assertThat(meterRegistry.get("chat.room.entry.tasks").tag("result", "submitted").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.room.entry.tasks").tag("result", "failed").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.room.entry.tasks").tag("result", "completed").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.room.entry.run").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.room.entry.pending").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.weup.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StompChannelMetricsTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StompChannelMetrics stompChannelMetrics = new StompChannelMetrics(meterRegistry);
+
+    private final ChannelInterceptor interceptor = stompChannelMetrics.interceptor("outbound");
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Test
+    void numericSegmentsShareOneTag() {
+        send("/topic/chat/1");
+        send("/topic/chat/2");
+
+        assertThat(frames("/topic/chat/{id}")).isEqualTo(2);
+    }
+
+    @Test
+    void userSessionSuffixesShareOneTag() {
+        send("/queue/notification-user1a2b3c4d");
+        send("/queue/notification-userx9y8z7");
+        send("/queue/chat/10-usersession-b");
+
+        assertThat(frames("/queue/notification-user{sessionId}")).isEqualTo(2);
+        assertThat(frames("/queue/chat/{id}-user{sessionId}")).isEqualTo(1);
+        assertThat(meterRegistry.get("stomp.channel.frames").counters()).hasSize(2);
+    }
+
+    @Test
+    void plainDestinationsKeepTheirTag() {
+        send("/topic/notice");
+
+        assertThat(frames("/topic/notice")).isEqualTo(1);
+    }
+
+    private void send(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        interceptor.preSend(message, channel);
+    }
+
+    private double frames(String destination) {
+        return meterRegistry.get("stomp.channel.frames")
+                .tags("channel", "outbound", "destination", destination)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.weup.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 두 노드를 한 JVM 에 띄우고 redis pub/sub 을 fake 로 연결해서 cluster fan-out 을 확인
+// (redis 와 같이 발행한 노드 자신도 메시지를 받음)
+class StompClusterRelayTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // fake redis pub/sub 으로 발행된 메시지 (발행 횟수 확인용)
+    private final List<String> published = new CopyOnWriteArrayList<>();
+
+    private final List<Node> subscribers = new CopyOnWriteArrayList<>();
+
+    private Node nodeA;
+
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(Set.of());
+        nodeB = new Node(Set.of("session-b"));
+    }
+
+    @Test
+    void topicMessageIsDeliveredOnBothNodes() {
+        nodeA.send("/topic/project/1", "{\"type\":\"EDIT_LOCK\"}");
+
+        assertThat(nodeA.payloadsTo("/topic/project/1")).containsExactly("{\"type\":\"EDIT_LOCK\"}");
+        assertThat(nodeB.payloadsTo("/topic/project/1")).containsExactly("{\"type\":\"EDIT_LOCK\"}");
+    }
+
+    @Test
+    void nodeDoesNotRedeliverItsOwnMessage() {
+        nodeA.send("/topic/chat/10", "hello");
+
+        // fake pub/sub 이 nodeA 에도 발행 메시지를 돌려주지만 로컬 전달은 한 번뿐
+        assertThat(nodeA.payloadsTo("/topic/chat/10")).hasSize(1);
+    }
+
+    @Test
+    void relayedMessageIsNotPublishedAgain() {
+        nodeA.send("/topic/chat/10", "hello");
+
+        // nodeB 가 받은 사본은 다시 발행되지 않음
+        assertThat(published).hasSize(1);
+    }
+
+    @Test
+    void duplicateRelayMessageIsDeliveredOnce() {
+        nodeA.send("/topic/chat/10", "hello");
+
+        // 같은 relay 메시지를 한 번 더 수신
+        nodeB.receive(published.get(0));
+
+        assertThat(nodeB.payloadsTo("/topic/chat/10")).hasSize(1);
+    }
+
+    @Test
+    void userQueueMessageReachesSessionOnOtherNode() {
+        // user 3 은 nodeB 에만 접속해 있음
+        nodeA.send("/user/3/queue/notification", "{\"message\":\"invited\"}");
+
+        assertThat(nodeB.payloadsTo("/queue/notification-usersession-b")).containsExactly("{\"message\":\"invited\"}");
+        assertThat(nodeA.destinations()).noneMatch(destination -> destination.startsWith("/queue/notification-user"));
+
+        // 해석 전 /user/... 메시지만 한 번 발행, nodeB 에서 세션으로 해석된 메시지는 발행하지 않음
+        assertThat(published).hasSize(1);
+    }
+
+    @Test
+    void resolvedUserQueueMessageIsNotPublished() {
+        // user 3 이 발행 노드에 접속해 있는 경우에도 세션별로 해석된 메시지는 발행하지 않음
+        nodeB.send("/user/3/queue/notification", "{\"message\":\"invited\"}");
+
+        assertThat(nodeB.payloadsTo("/queue/notification-usersession-b")).hasSize(1);
+        assertThat(published).hasSize(1);
+    }
+
+    private class Node {
+
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+
+        private final StompClusterRelay relay;
+
+        private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+
+        private Node(Set<String> userThreeSessionIds) {
+            StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            doAnswer(invocation -> {
+                String body = invocation.getArgument(1);
+                published.add(body);
+                subscribers.forEach(subscriber -> subscriber.receive(body));
+                return (long) subscribers.size();
+            }).when(redisTemplate).convertAndSend(eq(StompClusterRelay.RELAY_CHANNEL), anyString());
+
+            relay = new StompClusterRelay(redisTemplate, objectMapper, brokerChannel);
+            brokerChannel.addInterceptor(relay);
+            brokerChannel.subscribe(delivered::add);
+
+            // broker channel 의 /user/... 메시지를 이 노드의 세션으로 해석
+            UserDestinationMessageHandler userDestinationHandler = new UserDestinationMessageHandler(
+                    new ExecutorSubscribableChannel(), brokerChannel, new DefaultUserDestinationResolver(userRegistry(userThreeSessionIds)));
+            userDestinationHandler.start();
+
+            subscribers.add(this);
+        }
+
+        private void send(String destination, String payload) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            brokerChannel.send(MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+        }
+
+        private void receive(String body) {
+            relay.onMessage(new DefaultMessage(
+                    StompClusterRelay.RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8)), null);
+        }
+
+        private List<String> destinations() {
+            return delivered.stream()
+                    .map(message -> SimpMessageHeaderAccessor.getDestination(message.getHeaders()))
+                    .toList();
+        }
+
+        private List<String> payloadsTo(String destination) {
+            return delivered.stream()
+                    .filter(message -> destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                    .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+
+        private SimpUserRegistry userRegistry(Set<String> sessionIds) {
+            SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+            if (sessionIds.isEmpty()) {
+                return userRegistry;
+            }
+
+            SimpUser user = mock(SimpUser.class);
+            Set<SimpSession> sessions = new HashSet<>();
+            for (String sessionId : sessionIds) {
+                SimpSession session = mock(SimpSession.class);
+                when(session.getId()).thenReturn(sessionId);
+                when(session.getUser()).thenReturn(user);
+                sessions.add(session);
+            }
+            when(user.getName()).thenReturn("3");
+            when(user.getSessions()).thenReturn(sessions);
+            when(userRegistry.getUser("3")).thenReturn(user);
+            return userRegistry;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.weup.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(meterRegistry);
+
+    @Test
+    void returnsCachedClaimsUntilExpiration() {
+        Claims claims = claims(System.currentTimeMillis() + 60_000);
+
+        verifiedTokenCache.put("access-token", claims);
+
+        assertThat(verifiedTokenCache.get("access-token")).isSameAs(claims);
+        assertThat(verifiedTokenCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsNotReturned() throws InterruptedException {
+        verifiedTokenCache.put("access-token", claims(System.currentTimeMillis() + 50));
+
+        Thread.sleep(100);
+
+        assertThat(verifiedTokenCache.get("access-token")).isNull();
+        assertThat(verifiedTokenCache.getMissCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotCached() {
+        verifiedTokenCache.put("access-token", claims(System.currentTimeMillis() - 1_000));
+
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNotCached() {
+        verifiedTokenCache.put("access-token", Jwts.claims().setSubject("1"));
+
+        assertThat(verifiedTokenCache.get("access-token")).isNull();
+    }
+
+    @Test
+    void differentTokensDoNotShareClaims() {
+        verifiedTokenCache.put("access-token", claims(System.currentTimeMillis() + 60_000));
+
+        assertThat(verifiedTokenCache.get("other-token")).isNull();
+    }
+
+    @Test
+    void hitAndMissAreExportedAsMeters() {
+        verifiedTokenCache.put("access-token", claims(System.currentTimeMillis() + 60_000));
+
+        verifiedTokenCache.get("access-token");
+        verifiedTokenCache.get("access-token");
+        verifiedTokenCache.get("other-token");
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "verifiedToken", "result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "verifiedToken", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "verifiedToken").gauge().value()).isEqualTo(1);
+    }
+
+    private Claims claims(long expiresAt) {
+        return Jwts.claims()
+                .setSubject("1")
+                .setExpiration(new Date(expiresAt));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.weup.service;
+
+import com.example.weup.GeneralException;
+import com.example.weup.entity.ChatMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatCursorTests {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    void encodedCursorDecodesToSameSentAtAndUuid() {
+        ChatMessage message = message(BASE_TIME, "b6c1e4f0-uuid");
+
+        ChatMessage decoded = ChatCursor.decode(ChatCursor.encode(message));
+
+        assertThat(decoded.getSentAt()).isEqualTo(BASE_TIME);
+        assertThat(decoded.getUuid()).isEqualTo("b6c1e4f0-uuid");
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = ChatCursor.encode(message(BASE_TIME, "uuid?with/slash+plus"));
+
+        assertThat(cursor).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(ChatCursor.decode(null)).isNull();
+        assertThat(ChatCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        assertThatThrownBy(() -> ChatCursor.decode("not-a-cursor"))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    void messagesWithSameSentAtAreOrderedByUuid() {
+        ChatMessage cursor = message(BASE_TIME, "m");
+
+        assertThat(ChatCursor.isOlderThan(message(BASE_TIME, "a"), cursor)).isTrue();
+        assertThat(ChatCursor.isOlderThan(message(BASE_TIME, "z"), cursor)).isFalse();
+        assertThat(ChatCursor.isOlderThan(message(BASE_TIME, "m"), cursor)).isFalse();
+        assertThat(ChatCursor.isOlderThan(message(BASE_TIME.minusNanos(1_000_000), "z"), cursor)).isTrue();
+    }
+
+    @Test
+    void mergeSortsNewestFirstAndPrefersRedisCopy() {
+        ChatMessage redisNewest = message(BASE_TIME.plusSeconds(2), "c");
+        ChatMessage redisDuplicate = message(BASE_TIME.plusSeconds(1), "b");
+        ChatMessage dbDuplicate = message(BASE_TIME.plusSeconds(1), "b");
+        ChatMessage dbOldest = message(BASE_TIME, "a");
+
+        List<ChatMessage> merged = ChatCursor.mergeNewestFirst(List.of(redisDuplicate, redisNewest), List.of(dbOldest, dbDuplicate));
+
+        assertThat(merged).extracting(ChatMessage::getUuid).containsExactly("c", "b", "a");
+        assertThat(merged.get(1)).isSameAs(redisDuplicate);
+    }
+
+    @Test
+    void pagesSplitAtCursorWithoutGapsOrDuplicates() {
+        List<ChatMessage> all = List.of(
+                message(BASE_TIME.plusSeconds(1), "d"),
+                message(BASE_TIME, "c"),
+                message(BASE_TIME, "b"),
+                message(BASE_TIME, "a"));
+
+        List<ChatMessage> firstPage = ChatCursor.mergeNewestFirst(all, List.of()).subList(0, 2);
+        ChatMessage cursor = ChatCursor.decode(ChatCursor.encode(firstPage.getLast()));
+        List<ChatMessage> secondPage = all.stream()
+                .filter(message -> ChatCursor.isOlderThan(message, cursor))
+                .sorted(ChatCursor.NEWEST_FIRST)
+                .toList();
+
+        assertThat(firstPage).extracting(ChatMessage::getUuid).containsExactly("d", "c");
+        assertThat(secondPage).extracting(ChatMessage::getUuid).containsExactly("b", "a");
+    }
+
+    private ChatMessage message(LocalDateTime sentAt, String uuid) {
+        return ChatMessage.builder()
+                .sentAt(sentAt)
+                .uuid(uuid)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.weup.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberEventCoalescerTests {
+
+    private final StompEventPublisher stompEventPublisher = mock(StompEventPublisher.class);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    private MemberEventCoalescer memberEventCoalescer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenReturn(7L);
+
+        memberEventCoalescer = new MemberEventCoalescer(stompEventPublisher, redisTemplate, taskScheduler);
+    }
+
+    @Test
+    void eventsInSameWindowAreSentOnce() {
+        memberEventCoalescer.roleChanged(1L, "kim", 10L, 100L);
+        memberEventCoalescer.roleChanged(1L, "lee", 11L, 101L);
+        memberEventCoalescer.roleChanged(1L, "lee", 11L, 100L);
+
+        List<Runnable> flushes = scheduledFlushes(1);
+        verify(stompEventPublisher, never()).publish(anyString(), any());
+
+        flushes.get(0).run();
+
+        Map<String, Object> payload = publishedPayload("/topic/member/1");
+        assertThat(payload)
+                .containsEntry("type", MemberEventCoalescer.ROLE_CHANGED)
+                .containsEntry("version", 7L)
+                .containsEntry("editedBy", "lee")
+                .containsEntry("memberId", 11L)
+                .containsEntry("changedMemberIds", List.of())
+                .containsEntry("changedRoleIds", List.of(100L, 101L));
+    }
+
+    @Test
+    void differentTypesAndProjectsAreNotMerged() {
+        memberEventCoalescer.memberChanged(1L, "kim", 10L, 20L);
+        memberEventCoalescer.roleChanged(1L, "kim", 10L, 100L);
+        memberEventCoalescer.memberChanged(2L, "kim", 10L, 20L);
+
+        scheduledFlushes(3).forEach(Runnable::run);
+
+        verify(stompEventPublisher, times(2)).publish(eq("/topic/member/1"), any());
+        verify(stompEventPublisher).publish(eq("/topic/member/2"), any());
+    }
+
+    @Test
+    void eventAfterFlushStartsNewWindow() {
+        memberEventCoalescer.memberChanged(1L, "kim", 10L, 20L);
+        scheduledFlushes(1).get(0).run();
+
+        memberEventCoalescer.memberChanged(1L, "kim", 10L, 21L);
+        List<Runnable> flushes = scheduledFlushes(2);
+        flushes.get(1).run();
+
+        // 이미 전송된 flush 는 다시 실행되어도 아무것도 보내지 않음
+        flushes.get(0).run();
+
+        verify(stompEventPublisher, times(2)).publish(eq("/topic/member/1"), any());
+    }
+
+    @Test
+    void versionFailureDoesNotDropEvent() {
+        when(redisTemplate.opsForValue().increment(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        memberEventCoalescer.memberChanged(1L, "kim", 10L, 20L);
+        scheduledFlushes(1).get(0).run();
+
+        Map<String, Object> payload = publishedPayload("/topic/member/1");
+        assertThat(payload.get("version")).isInstanceOf(Long.class);
+        assertThat(payload).containsEntry("changedMemberIds", List.of(20L));
+    }
+
+    private List<Runnable> scheduledFlushes(int expected) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expected)).schedule(captor.capture(), any(Instant.class));
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> publishedPayload(String destination) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(stompEventPublisher).publish(eq(destination), captor.capture());
+        return (Map<String, Object>) captor.getValue();
+    }
+}
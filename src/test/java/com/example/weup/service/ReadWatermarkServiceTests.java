@@ -0,0 +1,43 @@
+package com.example.weup.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWatermarkServiceTests {
+
+    @Test
+    void noWatermarksMeansNoReaders() {
+        assertThat(ReadWatermarkService.countReadMembers(new long[0], 100)).isZero();
+    }
+
+    @Test
+    void countsWatermarksAtOrAfterMessageScore() {
+        long[] watermarks = {100, 200, 200, 300};
+
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 50)).isEqualTo(4);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 100)).isEqualTo(4);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 150)).isEqualTo(3);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 200)).isEqualTo(3);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 201)).isEqualTo(1);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 300)).isEqualTo(1);
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, 301)).isZero();
+    }
+
+    @Test
+    void activeMembersHaveReadEveryMessage() {
+        long messageScore = ReadWatermarkService.toScore(LocalDateTime.now().plusYears(10));
+        long[] watermarks = {ReadWatermarkService.toScore(LocalDateTime.now().minusMinutes(1)), (long) 1e15};
+
+        assertThat(ReadWatermarkService.countReadMembers(watermarks, messageScore)).isEqualTo(1);
+    }
+
+    @Test
+    void scoreIsEpochMilliInSeoulTime() {
+        LocalDateTime sentAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        assertThat(ReadWatermarkService.toScore(sentAt)).isEqualTo(1735689600000L);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.weup.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTests {
+
+    private static final long LATER = Long.MAX_VALUE;
+
+    @Test
+    void fullCacheEvictsLeastRecentlyUsedEntry() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+        cache.put("a", "A", LATER);
+        cache.put("b", "B", LATER);
+
+        // a 를 사용해서 b 가 가장 오래 사용하지 않은 entry 가 됨
+        cache.get("a");
+        cache.put("c", "C", LATER);
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("C");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void fullCacheStillAcceptsNewEntries() {
+        ExpiringLruCache<Integer, Integer> cache = new ExpiringLruCache<>(100);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i, LATER);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get(999)).isEqualTo(999);
+        assertThat(cache.get(0)).isNull();
+    }
+
+    @Test
+    void expiredEntryIsNotReturned() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("a", "A", System.currentTimeMillis() - 1);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictExpiredRemovesOnlyExpiredEntries() throws InterruptedException {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("short", "S", System.currentTimeMillis() + 50);
+        cache.put("long", "L", LATER);
+
+        Thread.sleep(100);
+
+        assertThat(cache.evictExpired()).isEqualTo(1);
+        assertThat(cache.get("long")).isEqualTo("L");
+    }
+
+    @Test
+    void removeIfRemovesMatchingKeys() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("1:10", "a", LATER);
+        cache.put("1:11", "b", LATER);
+        cache.put("2:10", "c", LATER);
+
+        cache.removeIf(key -> key.startsWith("1:"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("2:10")).isEqualTo("c");
+    }
+}